@@ -0,0 +1,69 @@
+package benchmarks;
+
+import java.util.Random;
+
+/**
+ * The order in which a benchmark visits positions in a list.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public enum AccessPattern {
+
+    /**
+     * Walks the list from front to back, wrapping at the end.
+     */
+    SEQUENTIAL {
+        @Override
+        int next(Random random, int step, int bound) {
+            return step % bound;
+        }
+    },
+
+    /**
+     * Picks positions uniformly at random.
+     */
+    RANDOM {
+        @Override
+        int next(Random random, int step, int bound) {
+            return random.nextInt(bound);
+        }
+    },
+
+    /**
+     * Picks random positions skewed towards the front of the list,
+     * about half of them in the first eighth.
+     */
+    FRONT_HEAVY {
+        @Override
+        int next(Random random, int step, int bound) {
+            double r = random.nextDouble();
+            return (int) (r * r * r * bound);
+        }
+    };
+
+    /**
+     * Returns the next position in the pattern
+     * @param random source of randomness
+     * @param step how many positions have been produced so far
+     * @param bound one past the largest allowed position
+     * @return a position in the range 0 to bound - 1
+     */
+    abstract int next(Random random, int step, int bound);
+
+    /**
+     * Returns count positions in the range 0 to bound - 1, using a fixed
+     * seed so every run and every implementation sees the same positions.
+     * @param count number of positions to produce
+     * @param bound one past the largest allowed position
+     * @return the positions
+     */
+    public int[] positions(int count, int bound) {
+        Random random = new Random(42);
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = next(random, i, bound);
+        }
+        return positions;
+    }
+}
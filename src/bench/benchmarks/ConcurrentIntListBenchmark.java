@@ -0,0 +1,225 @@
+package benchmarks;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+import interfaces.IntList;
+import lists.ArrayIntList;
+import lists.ConcurrentIntList;
+import lists.CowIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures shared lists under contention: ConcurrentIntList and CowIntList
+ * against an ArrayIntList behind synchronized methods. Each group shares
+ * one list.
+ *
+ * readOnly runs 8 readers, readMostly 7 readers and 1 writer, and
+ * writeHeavy 4 of each. Scores are operations per microsecond per
+ * thread role; compare the reader scores across implementations and
+ * across {@code -tg} thread counts to see how reads scale.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentIntListBenchmark {
+
+    @Param({"ConcurrentIntList", "CowIntList", "SynchronizedArrayIntList"})
+    public String implementation;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private IntList list;
+
+    /**
+     * Builds the shared list once per trial
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = create(implementation, size);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        list.addAll(values);
+    }
+
+    /**
+     * Returns a new, empty shared list of the named implementation
+     * @param implementation name from the implementation parameter
+     * @param capacity number of values the list will hold
+     * @return a new IntList
+     */
+    private static IntList create(String implementation, int capacity) {
+        switch (implementation) {
+            case "ConcurrentIntList":
+                return new ConcurrentIntList(capacity + 1);
+            case "CowIntList":
+                return new CowIntList();
+            case "SynchronizedArrayIntList":
+                return new SynchronizedIntList(new ArrayIntList(capacity + 1));
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Per-thread position source, so readers do not share a cursor
+     */
+    @State(Scope.Thread)
+    public static class Positions {
+        private int seed = (int) Thread.currentThread().getId() * 0x9E3779B9;
+
+        int next(int bound) {
+            // xorshift keeps the random positions out of the measurement
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            return (seed & Integer.MAX_VALUE) % bound;
+        }
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(8)
+    public int readOnlyGet(Positions positions) {
+        return list.get(positions.next(size));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public int readMostlyGet(Positions positions) {
+        return list.get(positions.next(size));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void readMostlyWrite() {
+        list.addBack(-1);
+        list.removeBack();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(4)
+    public boolean writeHeavyContains(Positions positions) {
+        return list.contains(positions.next(1000));
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(4)
+    public void writeHeavyWrite() {
+        list.addBack(-1);
+        list.removeBack();
+    }
+
+    /**
+     * The baseline: every method of the wrapped list under one monitor
+     */
+    static final class SynchronizedIntList implements IntList {
+
+        private final IntList list;
+
+        SynchronizedIntList(IntList list) {
+            this.list = list;
+        }
+
+        @Override
+        public synchronized void addFront(int value) {
+            list.addFront(value);
+        }
+
+        @Override
+        public synchronized void addBack(int value) {
+            list.addBack(value);
+        }
+
+        @Override
+        public synchronized void add(int index, int value) {
+            list.add(index, value);
+        }
+
+        @Override
+        public synchronized void addAll(int[] values) {
+            list.addAll(values);
+        }
+
+        @Override
+        public synchronized void removeFront() {
+            list.removeFront();
+        }
+
+        @Override
+        public synchronized void removeBack() {
+            list.removeBack();
+        }
+
+        @Override
+        public synchronized int remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public synchronized int get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public synchronized boolean contains(int value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public synchronized int indexOf(int value) {
+            return list.indexOf(value);
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        @Override
+        public synchronized int size() {
+            return list.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            list.clear();
+        }
+
+        @Override
+        public synchronized int[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt intIterator() {
+            return java.util.Arrays.stream(toArray()).iterator();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import interfaces.IntList;
+import lists.ArrayDequeIntList;
+import lists.ArrayIntList;
+import lists.BTreeIntList;
+import lists.DoublyLinkedIntList;
+import lists.GapIntList;
+import lists.IndexedLinkedIntList;
+import lists.LinkedIntList;
+import lists.OffHeapIntList;
+import lists.SkipIntList;
+import lists.UnrolledIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the positional IntList operations of every implementation
+ * over a range of list sizes and access patterns. Operations that take
+ * no position are in IntListScanBenchmark, which has no pattern param.
+ *
+ * addRemove inserts at a position and removes the value again so the
+ * list keeps its size across invocations; the score is the cost of the
+ * pair, not of either operation alone. The list holds 0 to size - 1 in order, so the value at a position
+ * equals the position and contains/indexOf search for a present value.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntListBenchmark {
+
+    // number of precomputed positions, a power of two so the cursor can mask
+    private static final int POSITIONS = 1 << 12;
+
+    // node pool size of the Pooled* variants of the linked lists
+    private static final int POOL_CAPACITY = 1 << 10;
+
+    @Param({"ArrayIntList", "ArrayDequeIntList", "OffHeapIntList", "LinkedIntList", "DoublyLinkedIntList",
+            "PooledLinkedIntList", "PooledDoublyLinkedIntList", "IndexedLinkedIntList",
+            "UnrolledIntList", "BTreeIntList", "GapIntList",
+            "SkipIntList"})
+    public String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "FRONT_HEAVY"})
+    public AccessPattern pattern;
+
+    private IntList list;
+    private int[] positions;
+    private int cursor;
+
+    /**
+     * Builds the list and the positions to visit once per trial
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = filled(implementation, size);
+        positions = pattern.positions(POSITIONS, size);
+        cursor = 0;
+    }
+
+    /**
+     * Releases lists that hold memory outside the heap
+     * @throws Exception if closing the list fails
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (list instanceof AutoCloseable) {
+            ((AutoCloseable) list).close();
+        }
+    }
+
+    /**
+     * Returns a new list of the named implementation holding 0 to size - 1
+     * @param implementation simple class name of an IntList in lists
+     * @param size number of values to add
+     * @return a new IntList
+     */
+    static IntList filled(String implementation, int size) {
+        IntList list = create(implementation);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Returns a new, empty list of the named implementation
+     * @param implementation simple class name of an IntList in lists
+     * @return a new IntList
+     */
+    static IntList create(String implementation) {
+        switch (implementation) {
+            case "ArrayIntList":
+                return new ArrayIntList();
+            case "ArrayDequeIntList":
+                return new ArrayDequeIntList();
+            case "OffHeapIntList":
+                return new OffHeapIntList();
+            case "LinkedIntList":
+                return new LinkedIntList();
+            case "DoublyLinkedIntList":
+                return new DoublyLinkedIntList();
+            case "PooledLinkedIntList":
+                return new LinkedIntList(POOL_CAPACITY);
+            case "PooledDoublyLinkedIntList":
+                return new DoublyLinkedIntList(POOL_CAPACITY);
+            case "IndexedLinkedIntList":
+                return new IndexedLinkedIntList();
+            case "UnrolledIntList":
+                return new UnrolledIntList();
+            case "BTreeIntList":
+                return new BTreeIntList();
+            case "GapIntList":
+                return new GapIntList();
+            case "SkipIntList":
+                return new SkipIntList();
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown IntList implementation: " + implementation);
+        }
+    }
+
+    private int nextPosition() {
+        return positions[cursor++ & (POSITIONS - 1)];
+    }
+
+    @Benchmark
+    public int addRemove() {
+        int index = nextPosition();
+        list.add(index, -1);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public int get() {
+        return list.get(nextPosition());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(nextPosition());
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(nextPosition());
+    }
+}
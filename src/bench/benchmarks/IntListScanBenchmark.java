@@ -0,0 +1,99 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import interfaces.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the IntList operations that take no position, the adds and
+ * removes at either end and the full traversals, over the same
+ * implementations and sizes as IntListBenchmark. They do not depend on an
+ * access pattern, so this class has no pattern param.
+ *
+ * The end benchmarks pair an add with the matching remove so the list
+ * keeps its size across invocations; the score is the cost of the pair.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntListScanBenchmark {
+
+    @Param({"ArrayIntList", "ArrayDequeIntList", "OffHeapIntList", "LinkedIntList", "DoublyLinkedIntList",
+            "PooledLinkedIntList", "PooledDoublyLinkedIntList", "IndexedLinkedIntList",
+            "UnrolledIntList", "BTreeIntList", "GapIntList",
+            "SkipIntList"})
+    public String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private IntList list;
+
+    /**
+     * Builds the list once per trial
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = IntListBenchmark.filled(implementation, size);
+    }
+
+    /**
+     * Releases lists that hold memory outside the heap
+     * @throws Exception if closing the list fails
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (list instanceof AutoCloseable) {
+            ((AutoCloseable) list).close();
+        }
+    }
+
+    @Benchmark
+    public void addFront() {
+        list.addFront(-1);
+        list.removeFront();
+    }
+
+    @Benchmark
+    public void addBack() {
+        list.addBack(-1);
+        list.removeBack();
+    }
+
+    @Benchmark
+    public void forEachInt(Blackhole blackhole) {
+        list.forEachInt(blackhole::consume);
+    }
+
+    @Benchmark
+    public void boxedIteration(Blackhole blackhole) {
+        for (int value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public long intStreamSum() {
+        return list.intStream().asLongStream().sum();
+    }
+}
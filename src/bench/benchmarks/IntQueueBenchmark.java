@@ -0,0 +1,144 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import lists.LinkedIntList;
+import lists.MpmcIntQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures handing ints between threads: MpmcIntQueue against a
+ * LinkedIntList used as a queue under one lock, the way callers share
+ * lists today. Both hold at most CAPACITY values; an offer to a full
+ * queue or a poll of an empty one counts as an operation that failed.
+ *
+ * handOff runs 4 producers and 4 consumers, batchHandOff the same with
+ * consumers taking up to BATCH values per call.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntQueueBenchmark {
+
+    static final int CAPACITY = 1 << 12;
+    static final int BATCH = 64;
+
+    @Param({"MpmcIntQueue", "LockedLinkedIntList"})
+    public String implementation;
+
+    private MpmcIntQueue queue;
+    private LinkedIntList list;
+
+    /**
+     * Builds the shared queue once per trial
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (implementation) {
+            case "MpmcIntQueue":
+                queue = new MpmcIntQueue(CAPACITY);
+                break;
+            case "LockedLinkedIntList":
+                list = new LinkedIntList();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Per-thread scratch space for batch polls
+     */
+    @State(Scope.Thread)
+    public static class Batch {
+        final int[] values = new int[BATCH];
+    }
+
+    private boolean offer(int value) {
+        if (queue != null) {
+            return queue.offer(value);
+        }
+        synchronized (list) {
+            if (list.size() == CAPACITY) {
+                return false;
+            }
+            list.addBack(value);
+            return true;
+        }
+    }
+
+    private int poll() {
+        if (queue != null) {
+            return queue.poll(-1);
+        }
+        synchronized (list) {
+            if (list.isEmpty()) {
+                return -1;
+            }
+            int value = list.get(0);
+            list.removeFront();
+            return value;
+        }
+    }
+
+    private int drain(int[] values) {
+        if (queue != null) {
+            return queue.drainTo(values);
+        }
+        synchronized (list) {
+            int count = Math.min(values.length, list.size());
+            for (int i = 0; i < count; i++) {
+                values[i] = list.get(0);
+                list.removeFront();
+            }
+            return count;
+        }
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(4)
+    public boolean handOffOffer() {
+        return offer(1);
+    }
+
+    @Benchmark
+    @Group("handOff")
+    @GroupThreads(4)
+    public int handOffPoll() {
+        return poll();
+    }
+
+    @Benchmark
+    @Group("batchHandOff")
+    @GroupThreads(4)
+    public boolean batchHandOffOffer() {
+        return offer(1);
+    }
+
+    @Benchmark
+    @Group("batchHandOff")
+    @GroupThreads(4)
+    public int batchHandOffDrain(Batch batch) {
+        return drain(batch.values);
+    }
+}
@@ -0,0 +1,114 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import lists.ArrayIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ArrayIntList searches, which go through IntSearch, with
+ * the plain scalar loops they replace. The forks resolve
+ * jdk.incubator.vector, so when benchmarks.jar is built with the vector
+ * profile IntSearch runs vectorized unless
+ * {@code -jvmArgsAppend -Dlists.vectorSearch=false} is passed.
+ *
+ * The searched value sits at the given fraction of the list, and
+ * count() always scans the whole list.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class SearchBenchmark {
+
+    @Param({"16", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"0.5", "1.0"})
+    public double position;
+
+    private ArrayIntList list;
+    private int[] values;
+    private int target;
+
+    /**
+     * Fills the list with values that never match, then places the
+     * target once at the requested position
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i & 0xFFFF;
+        }
+        target = -1;
+        values[Math.min(size - 1, (int) (position * size))] = target;
+        list = new ArrayIntList(size);
+        list.addAll(values);
+    }
+
+    @Benchmark
+    public int scalarIndexOf() {
+        int[] data = values;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int listIndexOf() {
+        return list.indexOf(target);
+    }
+
+    @Benchmark
+    public int scalarLastIndexOf() {
+        int[] data = values;
+        for (int i = data.length - 1; i >= 0; i--) {
+            if (data[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int listLastIndexOf() {
+        return list.lastIndexOf(target);
+    }
+
+    @Benchmark
+    public int scalarCount() {
+        int[] data = values;
+        int count = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int listCount() {
+        return list.count(target);
+    }
+}
@@ -0,0 +1,168 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import lists.DoublyLinkedIntList;
+import lists.MpmcIntQueue;
+import lists.SpscRingIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a one-to-one pipeline stage: SpscRingIntList against
+ * MpmcIntQueue and a DoublyLinkedIntList used as a queue under one lock.
+ * All hold at most CAPACITY values; an offer to a full queue or a poll of
+ * an empty one counts as an operation that failed.
+ *
+ * pipeline moves one value per call, batchPipeline up to BATCH.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpscRingBenchmark {
+
+    static final int CAPACITY = 1 << 12;
+    static final int BATCH = 64;
+
+    @Param({"SpscRingIntList", "MpmcIntQueue", "LockedDoublyLinkedIntList"})
+    public String implementation;
+
+    private SpscRingIntList ring;
+    private MpmcIntQueue queue;
+    private DoublyLinkedIntList list;
+
+    /**
+     * Builds the shared queue once per trial
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (implementation) {
+            case "SpscRingIntList":
+                ring = new SpscRingIntList(CAPACITY, SpscRingIntList.WaitStrategy.BUSY_SPIN);
+                break;
+            case "MpmcIntQueue":
+                queue = new MpmcIntQueue(CAPACITY);
+                break;
+            case "LockedDoublyLinkedIntList":
+                list = new DoublyLinkedIntList();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Per-thread values for batch calls
+     */
+    @State(Scope.Thread)
+    public static class Batch {
+        final int[] values = new int[BATCH];
+    }
+
+    private boolean offer(int value) {
+        if (ring != null) {
+            return ring.offer(value);
+        }
+        if (queue != null) {
+            return queue.offer(value);
+        }
+        synchronized (list) {
+            if (list.size() == CAPACITY) {
+                return false;
+            }
+            list.addBack(value);
+            return true;
+        }
+    }
+
+    private int poll() {
+        if (ring != null) {
+            return ring.poll(-1);
+        }
+        if (queue != null) {
+            return queue.poll(-1);
+        }
+        synchronized (list) {
+            if (list.isEmpty()) {
+                return -1;
+            }
+            int value = list.get(0);
+            list.removeFront();
+            return value;
+        }
+    }
+
+    private int publish(int[] values) {
+        if (ring != null) {
+            return ring.publishBatch(values, 0, values.length);
+        }
+        int count = 0;
+        while (count < values.length && offer(values[count])) {
+            count++;
+        }
+        return count;
+    }
+
+    private int consume(int[] values) {
+        if (ring != null) {
+            return ring.consumeBatch(values);
+        }
+        if (queue != null) {
+            return queue.drainTo(values);
+        }
+        synchronized (list) {
+            int count = Math.min(values.length, list.size());
+            for (int i = 0; i < count; i++) {
+                values[i] = list.get(0);
+                list.removeFront();
+            }
+            return count;
+        }
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public boolean pipelineOffer() {
+        return offer(1);
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public int pipelinePoll() {
+        return poll();
+    }
+
+    @Benchmark
+    @Group("batchPipeline")
+    @GroupThreads(1)
+    public int batchPipelinePublish(Batch batch) {
+        return publish(batch.values);
+    }
+
+    @Benchmark
+    @Group("batchPipeline")
+    @GroupThreads(1)
+    public int batchPipelineConsume(Batch batch) {
+        return consume(batch.values);
+    }
+}
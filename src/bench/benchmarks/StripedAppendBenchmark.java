@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import interfaces.IntList;
+import lists.ArrayIntList;
+import lists.ConcurrentIntList;
+import lists.StripedAppendIntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures many threads appending to one shared list while one thread
+ * keeps emptying it, as metrics ingestion does: StripedAppendIntList
+ * against ConcurrentIntList and a synchronized ArrayIntList. Compare the
+ * append scores across {@code -tg} thread counts to see how they scale.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StripedAppendBenchmark {
+
+    @Param({"StripedAppendIntList", "ConcurrentIntList", "SynchronizedArrayIntList"})
+    public String implementation;
+
+    private IntList list;
+
+    /**
+     * Builds a new shared list for every iteration
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (implementation) {
+            case "StripedAppendIntList":
+                list = new StripedAppendIntList();
+                break;
+            case "ConcurrentIntList":
+                list = new ConcurrentIntList();
+                break;
+            case "SynchronizedArrayIntList":
+                list = new ConcurrentIntListBenchmark.SynchronizedIntList(new ArrayIntList());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    @Group("append")
+    @GroupThreads(7)
+    public void appendAddBack() {
+        list.addBack(1);
+    }
+
+    @Benchmark
+    @Group("append")
+    @GroupThreads(1)
+    public void appendClear() {
+        // keeps memory bounded; a real reader would drain instead
+        list.clear();
+    }
+}
@@ -1,5 +1,13 @@
 package interfaces;
 
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * The Interfaces.IntList interface defines a set of operations
  * for an ordered (indexed) collection of ints, which
@@ -31,6 +39,44 @@ public interface IntList extends Iterable<Integer> {
      */
     void add(int index, int value);
 
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     * @param values values to be inserted
+     */
+    default void addAll(int[] values) {
+        for (int value : values) {
+            addBack(value);
+        }
+    }
+
+    /**
+     * Appends all the values of the specified list, in order, to the back
+     * of this list. The values are copied first, so a list may be appended
+     * to itself.
+     * @param other list whose values are to be inserted
+     */
+    default void addAll(IntList other) {
+        addAll(other.toArray());
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right.
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    default void insertAll(int index, int[] values) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size());
+        }
+        for (int i = 0; i < values.length; i++) {
+            add(index + i, values[i]);
+        }
+    }
+
     /**
      * Removes the value located at the front of the list
      * (at index 0), if it is present.
@@ -78,6 +124,40 @@ public interface IntList extends Iterable<Integer> {
      */
     int indexOf(int value);
 
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    default int lastIndexOf(int value) {
+        int lastIndex = -1;
+        PrimitiveIterator.OfInt itr = intIterator();
+        for (int index = 0; itr.hasNext(); index++) {
+            if (itr.nextInt() == value) {
+                lastIndex = index;
+            }
+        }
+        return lastIndex;
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     * @param value value to count
+     * @return the number of occurrences of the specified value in this list
+     */
+    default int count(int value) {
+        int count = 0;
+        PrimitiveIterator.OfInt itr = intIterator();
+        while (itr.hasNext()) {
+            if (itr.nextInt() == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns true if this list contains no values.
      * @return true if this list contains no values
@@ -95,4 +175,76 @@ public interface IntList extends Iterable<Integer> {
      * The list will be empty after this call returns.
      */
     void clear();
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     * @return an array of the values in this list
+     */
+    default int[] toArray() {
+        int[] values = new int[size()];
+        PrimitiveIterator.OfInt itr = intIterator();
+        for (int index = 0; index < values.length; index++) {
+            values[index] = itr.nextInt();
+        }
+        return values;
+    }
+
+    /**
+     * Returns an iterator over the values in this list, in order from
+     * front to back, that hands out primitive ints through nextInt()
+     * without boxing.
+     * @return a primitive iterator over the values in this list
+     */
+    PrimitiveIterator.OfInt intIterator();
+
+    /**
+     * Performs the given action on each value in this list, in order
+     * from front to back, without boxing.
+     * @param action the action to be performed on each value
+     * @throws NullPointerException if action is null
+     */
+    default void forEachInt(IntConsumer action) {
+        intIterator().forEachRemaining(action);
+    }
+
+    /**
+     * Returns an iterator over the values in this list as Integers.
+     * This adapts intIterator() for use in a for-each loop; prefer
+     * intIterator() or forEachInt() on large lists to avoid boxing.
+     * @return an Iterator.
+     */
+    @Override
+    default Iterator<Integer> iterator() {
+        return intIterator();
+    }
+
+    /**
+     * Returns a spliterator over the values in this list, in order from
+     * front to back. Implementations split their storage directly so that
+     * parallel streams can divide the work without copying the list.
+     * @return a primitive spliterator over the values in this list
+     */
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(intIterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential IntStream over the values in this list.
+     * The list should not be modified while the stream is in use.
+     * @return a sequential IntStream over the values in this list
+     */
+    default IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel IntStream over the values in this list.
+     * The list should not be modified while the stream is in use.
+     * @return a possibly parallel IntStream over the values in this list
+     */
+    default IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
 }
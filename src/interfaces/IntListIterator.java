@@ -0,0 +1,67 @@
+package interfaces;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * The Interfaces.IntListIterator interface defines a cursor over an
+ * IntList that can move in both directions and edit the list where it
+ * stands, like java.util.ListIterator but without boxing.
+ *
+ * The cursor always sits between two values: nextInt() returns the value
+ * after it and previousInt() the value before it. set() and remove() act
+ * on the value most recently returned by nextInt() or previousInt().
+ */
+public interface IntListIterator extends PrimitiveIterator.OfInt {
+
+    /**
+     * Returns true if there is a value before the cursor.
+     * @return true if previousInt() would return a value
+     */
+    boolean hasPrevious();
+
+    /**
+     * Returns the value before the cursor and moves the cursor back.
+     * @return the previous value in the list
+     * @throws java.util.NoSuchElementException if there is no previous value
+     */
+    int previousInt();
+
+    /**
+     * Returns the index of the value that nextInt() would return,
+     * or the size of the list if the cursor is at the end.
+     * @return the index of the next value
+     */
+    int nextIndex();
+
+    /**
+     * Returns the index of the value that previousInt() would return,
+     * or -1 if the cursor is at the start.
+     * @return the index of the previous value
+     */
+    int previousIndex();
+
+    /**
+     * Replaces the value most recently returned by nextInt() or
+     * previousInt() with the specified value.
+     * @param value value to be stored
+     * @throws IllegalStateException if neither nextInt() nor previousInt()
+     * has been called, or remove() or add() was called after the last one
+     */
+    void set(int value);
+
+    /**
+     * Inserts the specified value immediately before the cursor, so a
+     * following nextInt() is unaffected and previousInt() returns it.
+     * @param value value to be inserted
+     */
+    void add(int value);
+
+    /**
+     * Removes the value most recently returned by nextInt() or
+     * previousInt() from the list.
+     * @throws IllegalStateException if neither nextInt() nor previousInt()
+     * has been called, or remove() or add() was called after the last one
+     */
+    @Override
+    void remove();
+}
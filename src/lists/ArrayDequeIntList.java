@@ -0,0 +1,506 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Class that stores ints in a circular int[] buffer with a head index,
+ * so adding and removing at either end never shifts the buffer.
+ * A middle add or remove only moves the values on the shorter side.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class ArrayDequeIntList implements IntList {
+
+    // fields:
+    private int[] buffer;   // capacity is always a power of two
+    private int head;       // physical index of the value at index 0
+    private int size;
+
+    /**
+     * Constructor for ArrayDequeIntList creates a new
+     * ArrayDequeIntList with a buffer of 16
+     */
+    public ArrayDequeIntList() {
+        buffer = new int[16];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        if (size == buffer.length) {
+            grow();
+        }
+        // step head back one slot, wrapping to the end of the buffer
+        head = (head - 1) & (buffer.length - 1);
+        buffer[head] = value;
+        size++;
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        if (size == buffer.length) {
+            grow();
+        }
+        buffer[physical(size)] = value;
+        size++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (index == 0) {
+            addFront(value);
+        } else if (index == size) {
+            addBack(value);
+        } else {
+            if (size == buffer.length) {
+                grow();
+            }
+            int mask = buffer.length - 1;
+            if (index < size - index) {
+                // the front side is shorter, move it one slot to the left
+                int newHead = (head - 1) & mask;
+                moveDown(head, newHead, index);
+                head = newHead;
+            } else {
+                // the back side is shorter, move it one slot to the right
+                int from = physical(index);
+                moveUp(from, (from + 1) & mask, size - index);
+            }
+            buffer[physical(index)] = value;
+            size++;
+        }
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (!isEmpty()) {
+            buffer[head] = 0;
+            head = (head + 1) & (buffer.length - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (!isEmpty()) {
+            size--;
+            buffer[physical(size)] = 0;
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        int removedValue = get(index);
+        int mask = buffer.length - 1;
+
+        if (index < size - 1 - index) {
+            // the front side is shorter, move it one slot to the right
+            moveUp(head, (head + 1) & mask, index);
+            buffer[head] = 0;
+            head = (head + 1) & mask;
+        } else {
+            // the back side is shorter, move it one slot to the left
+            moveDown(physical(index + 1), physical(index), size - 1 - index);
+            buffer[physical(size - 1)] = 0;
+        }
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        return buffer[physical(index)];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        // search the part from head to the end of the buffer, then the wrapped part
+        int firstPart = Math.min(size, buffer.length - head);
+        int found = IntSearch.indexOf(buffer, head, head + firstPart, value);
+        if (found >= 0) {
+            return found - head;
+        }
+        found = IntSearch.indexOf(buffer, 0, size - firstPart, value);
+        return found >= 0 ? found + firstPart : -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        // search the wrapped part first, then the part from head to the end
+        int firstPart = Math.min(size, buffer.length - head);
+        int found = IntSearch.lastIndexOf(buffer, 0, size - firstPart, value);
+        if (found >= 0) {
+            return found + firstPart;
+        }
+        found = IntSearch.lastIndexOf(buffer, head, head + firstPart, value);
+        return found >= 0 ? found - head : -1;
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of the specified value in this list
+     */
+    @Override
+    public int count(int value) {
+        int firstPart = Math.min(size, buffer.length - head);
+        return IntSearch.count(buffer, head, head + firstPart, value)
+                + IntSearch.count(buffer, 0, size - firstPart, value);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        buffer = new int[16];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     *
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size];
+        int firstPart = Math.min(size, buffer.length - head);
+        System.arraycopy(buffer, head, values, 0, firstPart);
+        System.arraycopy(buffer, 0, values, firstPart, size - firstPart);
+        return values;
+    }
+
+    /**
+     * Helper method that maps a list index to its slot in the buffer
+     * @param index list index
+     * @return the buffer index holding that value
+     */
+    private int physical(int index) {
+        return (head + index) & (buffer.length - 1);
+    }
+
+    /**
+     * Helper method to double the buffer, unwrapping the values
+     * so the front of the list lands at buffer index 0
+     */
+    private void grow() {
+        int newCapacity = buffer.length << 1;
+        if (newCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity overflows int");
+        }
+        int[] newBuffer = new int[newCapacity];
+        int firstPart = Math.min(size, buffer.length - head);
+        System.arraycopy(buffer, head, newBuffer, 0, firstPart);
+        System.arraycopy(buffer, 0, newBuffer, firstPart, size - firstPart);
+        buffer = newBuffer;
+        head = 0;
+    }
+
+    /**
+     * Helper method that copies count values starting at buffer slot from
+     * into the slots starting at to, where to is before from in the ring.
+     * Copies front to back in contiguous runs so nothing is overwritten
+     * before it is read.
+     * @param from first buffer slot to read
+     * @param to first buffer slot to write
+     * @param count number of values to copy
+     */
+    private void moveDown(int from, int to, int count) {
+        int capacity = buffer.length;
+        int mask = capacity - 1;
+        while (count > 0) {
+            int run = Math.min(count, Math.min(capacity - from, capacity - to));
+            System.arraycopy(buffer, from, buffer, to, run);
+            from = (from + run) & mask;
+            to = (to + run) & mask;
+            count -= run;
+        }
+    }
+
+    /**
+     * Helper method that copies count values starting at buffer slot from
+     * into the slots starting at to, where to is after from in the ring.
+     * Copies back to front in contiguous runs so nothing is overwritten
+     * before it is read.
+     * @param from first buffer slot to read
+     * @param to first buffer slot to write
+     * @param count number of values to copy
+     */
+    private void moveUp(int from, int to, int count) {
+        int capacity = buffer.length;
+        int mask = capacity - 1;
+        int fromEnd = (from + count) & mask;
+        int toEnd = (to + count) & mask;
+        while (count > 0) {
+            // longest run that ends at fromEnd and toEnd without wrapping
+            int run = Math.min(count, Math.min(fromEnd == 0 ? capacity : fromEnd,
+                    toEnd == 0 ? capacity : toEnd));
+            fromEnd = (fromEnd - run) & mask;
+            toEnd = (toEnd - run) & mask;
+            System.arraycopy(buffer, fromEnd, buffer, toEnd, run);
+            count -= run;
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     *
+     * @return a PrimitiveIterator.OfInt.
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new DequeIterator();
+    }
+
+    /**
+     * Performs the given action on each value in this list, scanning
+     * the buffer from head to its end and then the wrapped part.
+     *
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int[] data = buffer;
+        int length = size;
+        int firstPart = Math.min(length, data.length - head);
+        for (int i = head; i < head + firstPart; i++) {
+            action.accept(data[i]);
+        }
+        for (int i = 0; i < length - firstPart; i++) {
+            action.accept(data[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list that splits
+     * by halving the index range, wrapping around the buffer as needed.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new DequeSpliterator(0, size);
+    }
+
+    //create a private helper Spliterator class
+    private class DequeSpliterator implements Spliterator.OfInt {
+
+        // private fields:
+        private int index;          // next list index to visit
+        private final int fence;    // one past the last list index to visit
+
+        private DequeSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            DequeSpliterator prefix = new DequeSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(buffer[physical(index)]);
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int[] data = buffer;
+            int mask = data.length - 1;
+            for (int i = index; i < fence; i++) {
+                action.accept(data[(head + i) & mask]);
+            }
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    //create a private helper Iterator class
+    private class DequeIterator implements PrimitiveIterator.OfInt {
+
+        // private fields:
+        private int index;
+
+        private DequeIterator() {
+            index = 0;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * (In other words, returns {@code true} if {@link #next} would
+         * return an element rather than throwing an exception.)
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (index >= size) {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = buffer[physical(index)];
+            index++;
+            return currentValue;
+        }
+
+        @Override
+        public String toString() {
+            return "DequeIterator{" +
+                    "i=" + index +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayDequeIntList{" +
+                "size=" + size +
+                ", buffer=" + Arrays.toString(toArray()) +
+                '}';
+    }
+}
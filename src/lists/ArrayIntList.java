@@ -1,8 +1,11 @@
 package lists;
 
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
 
 import interfaces.IntList;
 
@@ -16,19 +19,72 @@ import interfaces.IntList;
  */
 public class ArrayIntList implements IntList {
 
+    /**
+     * Capacity a new ArrayIntList starts with, and the smallest
+     * capacity the default shrink policy will reduce the buffer to
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Decides how far the buffer shrinks after a value is removed.
+     */
+    @FunctionalInterface
+    public interface ShrinkPolicy {
+
+        /**
+         * Never shrinks the buffer; only trimToSize() releases capacity.
+         */
+        ShrinkPolicy NEVER = (size, capacity) -> capacity;
+
+        /**
+         * Halves the buffer once it is at most a quarter full, never going
+         * below DEFAULT_CAPACITY. Growing doubles and shrinking waits for a
+         * quarter, so alternating adds and removes at a boundary do not
+         * reallocate every time.
+         */
+        ShrinkPolicy QUARTER = (size, capacity) ->
+                capacity > DEFAULT_CAPACITY && size <= capacity / 4
+                        ? Math.max(capacity / 2, DEFAULT_CAPACITY) : capacity;
+
+        /**
+         * Returns the capacity the buffer should have after a removal.
+         * Returning the current capacity keeps the buffer as it is.
+         * @param size number of values in the list
+         * @param capacity current length of the buffer
+         * @return the new capacity, which must be at least size
+         */
+        int shrinkTo(int size, int capacity);
+    }
+
     // fields:
     private int size;
-    private Integer[] buffer;
+    private int[] buffer;
+    private ShrinkPolicy shrinkPolicy;
 
     /**
      * Constructor for ArrayIntList created a new
      * ArrayIntList with a buffer of 10
      */
     public ArrayIntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for ArrayIntList creates a new ArrayIntList
+     * with a buffer of the specified capacity
+     * @param initialCapacity length of the starting buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ArrayIntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Capacity cannot be negative: " + initialCapacity);
+        }
         //initialize fields
         size = 0;
-        //updated int[] to Integer[] so that 0 can be used in this list
-        buffer = new Integer[10];
+        //primitive storage, emptiness is tracked by size alone
+        buffer = new int[initialCapacity];
+        shrinkPolicy = ShrinkPolicy.QUARTER;
     }
 
     /**
@@ -40,15 +96,12 @@ public class ArrayIntList implements IntList {
      */
     @Override
     public void addFront(int value) {
-            //loop while index is greater than zero
-            for (int i = size; i > 0; i--) {
-                //if buffer is at capacity increase buffer by one index
-                if (size == buffer.length) {
-                    this.resize(buffer.length + 1);
-                }
-                //index at highest buffer gets shifted right
-                buffer[i] = buffer[i - 1];
-            }
+        //if buffer is at capacity grow it before shifting
+        if (size == buffer.length) {
+            grow(size + 1);
+        }
+        //shift every value one index to the right
+        System.arraycopy(buffer, 0, buffer, 1, size);
         buffer[0] = value;
         size++;
     }
@@ -61,9 +114,9 @@ public class ArrayIntList implements IntList {
     @Override
     public void addBack(int value) {
 
-        //if buffer is at capacity increase buffer by one index
-        if ( size == buffer.length) {
-            resize(size + 1);
+        //if buffer is at capacity grow it geometrically
+        if (size == buffer.length) {
+            grow(size + 1);
         }
         //add value to size which is one index greater than last value
         buffer[size] = value;
@@ -87,23 +140,76 @@ public class ArrayIntList implements IntList {
             throw new IndexOutOfBoundsException("Specified Index Must Be " +
                     "In the Range of 0-" + size);
         } else {
-            //loop while index is greater than index value specified
-            for (int i = size; i >= index; i--) {
-                //if buffer is at capacity increase buffer by one index
-                if (size == buffer.length) {
-                    this.resize(buffer.length + 1);
-                }
-                //index at highest buffer gets shifted right
-                if (i != 0) {
-                    buffer[i] = buffer[i - 1];
-                }
+            //if buffer is at capacity grow it before shifting
+            if (size == buffer.length) {
+                grow(size + 1);
             }
+            //shift the values at index and after one index to the right
+            System.arraycopy(buffer, index, buffer, index + 1, size - index);
         }
         buffer[index] = value;
         size++;
 
     }
 
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     * Reserves capacity once and copies the values in a single pass.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Appends all the values of the specified list, in order, to the back
+     * of this list. Another ArrayIntList is copied straight from its buffer.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other) {
+        if (other instanceof ArrayIntList) {
+            ArrayIntList that = (ArrayIntList) other;
+            int count = that.size;
+            if (count > buffer.length - size) {
+                grow(size + count);
+            }
+            //read that.buffer after growing in case other is this list
+            System.arraycopy(that.buffer, 0, buffer, size, count);
+            size += count;
+        } else {
+            addAll(other.toArray());
+        }
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right, once.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Specified Index Must Be " +
+                    "In the Range of 0-" + size);
+        }
+        int count = values.length;
+        if (count > buffer.length - size) {
+            grow(size + count);
+        }
+        //open a gap of count slots, then fill it
+        System.arraycopy(buffer, index, buffer, index + count, size - index);
+        System.arraycopy(values, 0, buffer, index, count);
+        size += count;
+    }
+
     /**
      * Removes the value located at the front of the list
      * (at index 0), if it is present.
@@ -112,18 +218,10 @@ public class ArrayIntList implements IntList {
     @Override
     public void removeFront() {
         if (!isEmpty()) {
-            for (int i = 0; i <= size - 2; i++) {
-                buffer[i] = buffer[i + 1];
-            }
+            System.arraycopy(buffer, 1, buffer, 0, size - 1);
             size--;
-
-            //Reduce buffer until original buffer size is reach
-            if (size >= 10) {
-                resize(size);
-            //after buffer becomes 10 set removed values back to null
-            } else {
-                buffer[size] = null;
-            }
+            buffer[size] = 0;
+            shrink();
         }
     }
 
@@ -134,8 +232,9 @@ public class ArrayIntList implements IntList {
     @Override
     public void removeBack() {
         if (!isEmpty()) {
-            buffer[size - 1] = null;
+            buffer[size - 1] = 0;
             size--;
+            shrink();
         }
     }
 
@@ -160,17 +259,12 @@ public class ArrayIntList implements IntList {
         // save a copy of the value to be removed so that we can return it later
         int copyOfRemovedValue = buffer[index];
 
-        // if index is last index with valid data, set data to null
-        if (index == size - 1) {
-            buffer[index] = null;
         // shift all values over starting at index to be removed
-        } else {
-            for (int i = index; i < size - 1; i++) {
-                    buffer[i] = buffer[i + 1];
-                }
-            } size--;
-        // set trailing index to null to account for reduced size
-        buffer[size] = null;
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+        size--;
+        // clear trailing index to account for reduced size
+        buffer[size] = 0;
+        shrink();
 
         return copyOfRemovedValue;
     }
@@ -208,13 +302,7 @@ public class ArrayIntList implements IntList {
      */
     @Override
     public boolean contains(int value) {
-
-        for (int i = 0; i < size; i++) {
-            if (buffer[i] == value) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(value) >= 0;
     }
 
     /**
@@ -227,12 +315,32 @@ public class ArrayIntList implements IntList {
      */
     @Override
     public int indexOf(int value) {
+        //IntSearch compares a vector of values per step when it can
+        return IntSearch.indexOf(buffer, 0, size, value);
+    }
 
-        for (int i = 0; i < size; i++) {
-            if (buffer[i] == value) {
-                return i;
-            }
-        } return -1;
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        return IntSearch.lastIndexOf(buffer, 0, size, value);
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of the specified value in this list
+     */
+    @Override
+    public int count(int value) {
+        return IntSearch.count(buffer, 0, size, value);
     }
 
     /**
@@ -242,7 +350,7 @@ public class ArrayIntList implements IntList {
      */
     @Override
     public boolean isEmpty() {
-        return size == 0 && buffer[0] == null;
+        return size == 0;
     }
 
     /**
@@ -258,12 +366,108 @@ public class ArrayIntList implements IntList {
     /**
      * Removes all the values from this list.
      * The list will be empty after this call returns.
+     * The buffer is kept so that refilling the list does not allocate.
      */
     @Override
     public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Grows the buffer, if needed, so that it can hold at least
+     * minCapacity values without reallocating.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the buffer to exactly the number of values in the list.
+     */
+    public void trimToSize() {
+        if (size < buffer.length) {
+            resize(size);
+        }
+    }
 
-        buffer = new Integer[10];
+    /**
+     * Helper method for CowIntList that trims the buffer to the number of
+     * values, copying only if it has free slots, and hands it over. The
+     * list is left empty with no buffer of its own.
+     * @return the buffer, exactly size() values long
+     */
+    int[] detachBuffer() {
+        trimToSize();
+        int[] values = buffer;
+        buffer = new int[0];
         size = 0;
+        return values;
+    }
+
+    /**
+     * Returns the number of values the list can hold before
+     * the buffer has to grow.
+     *
+     * @return the length of the buffer
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Sets the policy deciding how the buffer shrinks after removals.
+     *
+     * @param shrinkPolicy the policy to use, for example ShrinkPolicy.NEVER
+     * @throws NullPointerException if shrinkPolicy is null
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        if (shrinkPolicy == null) {
+            throw new NullPointerException("Shrink policy cannot be null");
+        }
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     *
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Helper method to grow the buffer so it holds at least
+     * minCapacity values. Capacity doubles so that n appends
+     * cost O(n) copies in total.
+     * @param minCapacity the smallest acceptable capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity overflows int");
+        }
+        int newCapacity = buffer.length << 1;
+        if (newCapacity < minCapacity || newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        resize(newCapacity);
+    }
+
+    /**
+     * Helper method that asks the shrink policy whether the buffer
+     * should get smaller now that a value has been removed
+     */
+    private void shrink() {
+        int newCapacity = shrinkPolicy.shrinkTo(size, buffer.length);
+        if (newCapacity < buffer.length) {
+            resize(Math.max(newCapacity, size));
+        }
     }
 
     /**
@@ -272,41 +476,54 @@ public class ArrayIntList implements IntList {
      * @param newSize the new size of the internal Array
      */
     private void resize(int newSize) {
-        //create new space, separate from the old space (buffer)
-        Integer[] newBuffer = new Integer[newSize];
-
-        // copy everything over from buffer into newBuffer
-        if (newSize > buffer.length) {
-            for (int i = 0; i < buffer.length; i++) {
-                newBuffer[i] = buffer[i];
-            }
-        } else {
-            for (int i = 0; i < newBuffer.length; i++) {
-                newBuffer[i] = buffer[i];
-            }
-        }
-
-        // set the new space into buffer
-        buffer = newBuffer;
+        // copy everything that fits into a new space (buffer)
+        buffer = Arrays.copyOf(buffer, newSize);
 
         // the old space is no longer "pointed to" and will eventually
         // be cleaned up by the garbage collector
     }
 
     /**
-     * Returns an iterator over elements of type {@code T}.
+     * Returns a primitive iterator over the values in this list.
      *
-     * @return an Iterator.
+     * @return a PrimitiveIterator.OfInt.
      */
     @Override
-    public Iterator<Integer> iterator() {
+    public PrimitiveIterator.OfInt intIterator() {
 
         //iterators are what enables main/client to use a for-each lop on Interfaces.IntList
         return new IntListIterator();
     }
 
+    /**
+     * Performs the given action on each value in this list,
+     * scanning the buffer directly.
+     *
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int[] data = buffer;
+        int length = size;
+        for (int i = 0; i < length; i++) {
+            action.accept(data[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values currently in the buffer.
+     * It splits by halving the index range and reports SIZED and
+     * SUBSIZED, so parallel streams divide the work evenly.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(buffer, 0, size, Spliterator.ORDERED);
+    }
+
     //create a private helper Iterator class
-    private class IntListIterator implements Iterator<Integer> {
+    private class IntListIterator implements PrimitiveIterator.OfInt {
 
         // private fields:
         private int index;
@@ -334,7 +551,7 @@ public class ArrayIntList implements IntList {
          * @throws NoSuchElementException if the iteration has no more elements
          */
         @Override
-        public Integer next() {
+        public int nextInt() {
             //check to see if i is greater than size
             if ( index >= size) {
                 throw new NoSuchElementException("i is now out of bounds");
@@ -357,7 +574,7 @@ public class ArrayIntList implements IntList {
     public String toString() {
         return "ArrayIntList{" +
                 "size=" + size +
-                ", buffer=" + Arrays.toString(buffer) +
+                ", buffer=" + Arrays.toString(Arrays.copyOf(buffer, size)) +
                 '}';
     }
 }
@@ -0,0 +1,1076 @@
+package lists;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Creates a counted B+tree, a rope of int[] leaves, and implements
+ * methods in IntList.
+ *
+ * Values live in leaves of up to LEAF_CAPACITY values, and inner nodes
+ * hold up to BRANCHING children. Every node knows how many values are
+ * below it, so positional get, add and remove descend by counts in
+ * O(log n). Every node other than the root is at least half full.
+ * split() and concat() cut and join whole trees in O(log n), and the
+ * leaves are chained so walking the values in order never revisits
+ * the inner nodes.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class BTreeIntList implements IntList {
+
+    /**
+     * Most values a leaf holds
+     */
+    public static final int LEAF_CAPACITY = 64;
+
+    /**
+     * Most children an inner node holds
+     */
+    public static final int BRANCHING = 32;
+
+    private static final int MIN_LEAF = LEAF_CAPACITY / 2;
+    private static final int MIN_BRANCHING = BRANCHING / 2;
+
+    // Fields
+    // null when the list is empty
+    private Node root;
+
+    /**
+     * Constructor for an empty BTreeIntList
+     */
+    public BTreeIntList() {
+        root = null;
+    }
+
+    /**
+     * Constructor for a BTreeIntList holding a tree that was cut from
+     * another list
+     * @param root root of the tree, or null for an empty list
+     */
+    private BTreeIntList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * A node of the tree. count is the number of values in a leaf or
+     * the number of children of an inner node, and size the number of
+     * values in the whole subtree. Both arrays have one spare slot so a
+     * node can overflow by one before it is split.
+     */
+    private abstract static class Node {
+        int count;
+        int size;
+
+        abstract int height();
+
+        abstract int maxCount();
+    }
+
+    private static final class Leaf extends Node {
+        final int[] values = new int[LEAF_CAPACITY + 1];
+        Leaf next;
+        Leaf prev;
+
+        @Override
+        int height() {
+            return 0;
+        }
+
+        @Override
+        int maxCount() {
+            return LEAF_CAPACITY;
+        }
+    }
+
+    private static final class Inner extends Node {
+        final Node[] children = new Node[BRANCHING + 1];
+        final int height;
+
+        Inner(int height) {
+            this.height = height;
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+
+        @Override
+        int maxCount() {
+            return BRANCHING;
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        add(size(), value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list
+     * in O(log n). Full nodes on the way down split in half.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (root == null) {
+            root = new Leaf();
+        }
+        Node sibling = insert(root, index, value);
+        if (sibling != null) {
+            root = newRoot(root, sibling);
+        }
+    }
+
+    /**
+     * Helper method that inserts value at index of a subtree
+     * @param node root of the subtree
+     * @param index position in the subtree, between 0 and node.size
+     * @param value value to be inserted
+     * @return the upper half if node had to split, otherwise null
+     */
+    private static Node insert(Node node, int index, int value) {
+        node.size++;
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+            leaf.values[index] = value;
+            leaf.count++;
+            return leaf.count > LEAF_CAPACITY ? splitUpper(leaf) : null;
+        }
+        Inner inner = (Inner) node;
+        int i = 0;
+        while (i < inner.count - 1 && index > inner.children[i].size) {
+            index -= inner.children[i].size;
+            i++;
+        }
+        Node sibling = insert(inner.children[i], index, value);
+        if (sibling == null) {
+            return null;
+        }
+        insertChild(inner, i + 1, sibling);
+        return inner.count > BRANCHING ? splitUpper(inner) : null;
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size(), values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. The values are built into a tree of their own,
+     * which is spliced in with one split and two joins, so the cost is
+     * O(values.length + log n).
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (values.length == 0) {
+            return;
+        }
+        Node[] parts = split(root, index);
+        root = concat(concat(parts[0], build(values)), parts[1]);
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     */
+    @Override
+    public void removeFront() {
+        if (root != null) {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (root != null) {
+            remove(root.size - 1);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list in
+     * O(log n). Nodes left less than half full borrow from or merge
+     * with a sibling.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        int removedValue = delete(root, index);
+        if (root.count == 0) {
+            root = null;
+        } else if (root instanceof Inner && root.count == 1) {
+            root = ((Inner) root).children[0];
+        }
+        return removedValue;
+    }
+
+    /**
+     * Helper method that removes the value at index of a subtree
+     * @param node root of the subtree
+     * @param index position in the subtree, between 0 and node.size - 1
+     * @return the removed value
+     */
+    private static int delete(Node node, int index) {
+        node.size--;
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int removedValue = leaf.values[index];
+            System.arraycopy(leaf.values, index + 1, leaf.values, index, leaf.count - index - 1);
+            leaf.count--;
+            return removedValue;
+        }
+        Inner inner = (Inner) node;
+        int i = 0;
+        while (index >= inner.children[i].size) {
+            index -= inner.children[i].size;
+            i++;
+        }
+        Node child = inner.children[i];
+        int removedValue = delete(child, index);
+        if (child.count < (child instanceof Leaf ? MIN_LEAF : MIN_BRANCHING)) {
+            // rebalance the child with its left sibling, or its right one
+            int left = i > 0 ? i - 1 : i;
+            Node a = inner.children[left];
+            Node b = inner.children[left + 1];
+            if (a.count + b.count <= a.maxCount()) {
+                mergeIntoLeft(a, b);
+                removeChild(inner, left + 1);
+            } else {
+                share(a, b);
+            }
+        }
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list in O(log n).
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        Node node = root;
+        while (node instanceof Inner) {
+            Node[] children = ((Inner) node).children;
+            int i = 0;
+            while (index >= children[i].size) {
+                index -= children[i].size;
+                i++;
+            }
+            node = children[i];
+        }
+        return ((Leaf) node).values[index];
+    }
+
+    /**
+     * Moves the values from index on into a new list and returns it,
+     * leaving the values before index in this list. Runs in O(log n).
+     *
+     * @param index index of the first value to move
+     * @return a new list holding the values from index on
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public BTreeIntList split(int index) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        Node[] parts = split(root, index);
+        if (parts[0] != null) {
+            lastLeaf(parts[0]).next = null;
+        }
+        if (parts[1] != null) {
+            firstLeaf(parts[1]).prev = null;
+        }
+        root = parts[0];
+        return new BTreeIntList(parts[1]);
+    }
+
+    /**
+     * Moves all the values of other to the back of this list, leaving
+     * other empty. Runs in O(log n).
+     *
+     * @param other list whose values are appended
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void concat(BTreeIntList other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot concat a list to itself");
+        }
+        root = concat(root, other.root);
+        other.root = null;
+    }
+
+    /**
+     * Helper method that cuts a subtree into the values before index and
+     * the values from index on. The node is taken apart along the path to
+     * index and the pieces on each side are joined back up, which costs
+     * O(height) in total. The leaf chain still runs across the cut.
+     * @param node root of the subtree, or null
+     * @param index position of the cut, between 0 and node.size
+     * @return the left and right trees, either of which may be null
+     */
+    private static Node[] split(Node node, int index) {
+        if (node == null || index == 0) {
+            return new Node[] {null, node};
+        }
+        if (index == node.size) {
+            return new Node[] {node, null};
+        }
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            Leaf upper = new Leaf();
+            upper.count = leaf.count - index;
+            upper.size = upper.count;
+            System.arraycopy(leaf.values, index, upper.values, 0, upper.count);
+            leaf.count = index;
+            leaf.size = index;
+            linkLeafAfter(leaf, upper);
+            return new Node[] {leaf, upper};
+        }
+        Inner inner = (Inner) node;
+        int i = 0;
+        while (index >= inner.children[i].size) {
+            index -= inner.children[i].size;
+            i++;
+        }
+        Node[] parts = split(inner.children[i], index);
+        Node left = join(subtree(inner, 0, i), parts[0]);
+        Node right = join(parts[1], subtree(inner, i + 1, inner.count));
+        return new Node[] {left, right};
+    }
+
+    /**
+     * Helper method that joins two separate trees, linking the last leaf
+     * of left to the first leaf of right first
+     * @param left tree holding the first values, or null
+     * @param right tree holding the last values, or null
+     * @return the joined tree
+     */
+    private static Node concat(Node left, Node right) {
+        if (left != null && right != null) {
+            Leaf last = lastLeaf(left);
+            Leaf first = firstLeaf(right);
+            last.next = first;
+            first.prev = last;
+        }
+        return join(left, right);
+    }
+
+    /**
+     * Helper method that joins two trees whose leaves are already chained.
+     * The shorter tree is hung off the spine of the taller one at its own
+     * height, so the cost is the difference in height plus one.
+     * @param left tree holding the first values, or null
+     * @param right tree holding the last values, or null
+     * @return the joined tree
+     */
+    private static Node join(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.height() >= right.height()) {
+            Node sibling = joinRight(left, right, right.height(), right.size);
+            return sibling == null ? left : newRoot(left, sibling);
+        }
+        Node sibling = joinLeft(right, left, left.height(), left.size);
+        return sibling == null ? right : newRoot(sibling, right);
+    }
+
+    /**
+     * Helper method that appends a shorter tree along the right spine
+     * @param node node on the right spine of the taller tree
+     * @param right the shorter tree
+     * @param height height of right
+     * @param added number of values in right
+     * @return a node to insert right after node, or null
+     */
+    private static Node joinRight(Node node, Node right, int height, int added) {
+        if (node.height() == height) {
+            if (node.count + right.count <= node.maxCount()) {
+                mergeIntoLeft(node, right);
+                return null;
+            }
+            share(node, right);
+            return right;
+        }
+        Inner inner = (Inner) node;
+        Node sibling = joinRight(inner.children[inner.count - 1], right, height, added);
+        inner.size += added;
+        if (sibling == null) {
+            return null;
+        }
+        insertChild(inner, inner.count, sibling);
+        return inner.count > BRANCHING ? splitUpper(inner) : null;
+    }
+
+    /**
+     * Helper method that prepends a shorter tree along the left spine
+     * @param node node on the left spine of the taller tree
+     * @param left the shorter tree
+     * @param height height of left
+     * @param added number of values in left
+     * @return a node to insert right before node, or null
+     */
+    private static Node joinLeft(Node node, Node left, int height, int added) {
+        if (node.height() == height) {
+            if (left.count + node.count <= node.maxCount()) {
+                mergeIntoRight(left, node);
+                return null;
+            }
+            share(left, node);
+            return left;
+        }
+        Inner inner = (Inner) node;
+        Node sibling = joinLeft(inner.children[0], left, height, added);
+        inner.size += added;
+        if (sibling == null) {
+            return null;
+        }
+        insertChild(inner, 0, sibling);
+        return inner.count > BRANCHING ? splitLower(inner) : null;
+    }
+
+    /**
+     * Helper method that builds a tree over values with every node at
+     * least half full, chaining its leaves
+     * @param values values for the tree, at least one
+     * @return the root of the new tree
+     */
+    private static Node build(int[] values) {
+        int leaves = (values.length + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+        Node[] level = new Node[leaves];
+        Leaf previous = null;
+        int from = 0;
+        for (int i = 0; i < leaves; i++) {
+            // spread the values evenly so no leaf is under half full
+            int to = (int) ((long) values.length * (i + 1) / leaves);
+            Leaf leaf = new Leaf();
+            System.arraycopy(values, from, leaf.values, 0, to - from);
+            leaf.count = to - from;
+            leaf.size = leaf.count;
+            if (previous != null) {
+                previous.next = leaf;
+                leaf.prev = previous;
+            }
+            previous = leaf;
+            level[i] = leaf;
+            from = to;
+        }
+        int height = 0;
+        while (level.length > 1) {
+            height++;
+            int parents = (level.length + BRANCHING - 1) / BRANCHING;
+            Node[] above = new Node[parents];
+            from = 0;
+            for (int i = 0; i < parents; i++) {
+                int to = (int) ((long) level.length * (i + 1) / parents);
+                Inner inner = new Inner(height);
+                for (int j = from; j < to; j++) {
+                    inner.children[inner.count++] = level[j];
+                    inner.size += level[j].size;
+                }
+                above[i] = inner;
+                from = to;
+            }
+            level = above;
+        }
+        return level[0];
+    }
+
+    /**
+     * Helper method that makes a new root over two nodes of equal height
+     */
+    private static Node newRoot(Node left, Node right) {
+        Inner inner = new Inner(left.height() + 1);
+        inner.children[0] = left;
+        inner.children[1] = right;
+        inner.count = 2;
+        inner.size = left.size + right.size;
+        return inner;
+    }
+
+    /**
+     * Helper method that makes a tree of the children from to to - 1
+     * @return the tree, a lone child as is, or null if there are none
+     */
+    private static Node subtree(Inner inner, int from, int to) {
+        if (to - from == 0) {
+            return null;
+        }
+        if (to - from == 1) {
+            return inner.children[from];
+        }
+        Inner part = new Inner(inner.height);
+        for (int i = from; i < to; i++) {
+            part.children[part.count++] = inner.children[i];
+            part.size += inner.children[i].size;
+        }
+        return part;
+    }
+
+    /**
+     * Helper method that moves the upper half of an overfull node
+     * into a new node
+     * @return the new node, which goes right after node
+     */
+    private static Node splitUpper(Node node) {
+        Node upper = emptyLike(node);
+        int keep = node.count / 2;
+        moveItems(node, keep, upper, 0, node.count - keep);
+        upper.count = node.count - keep;
+        node.count = keep;
+        recount(node);
+        recount(upper);
+        if (node instanceof Leaf) {
+            linkLeafAfter((Leaf) node, (Leaf) upper);
+        }
+        return upper;
+    }
+
+    /**
+     * Helper method that moves the lower half of an overfull inner node
+     * into a new node
+     * @return the new node, which goes right before node
+     */
+    private static Node splitLower(Inner node) {
+        Inner lower = new Inner(node.height);
+        int move = node.count / 2;
+        moveItems(node, 0, lower, 0, move);
+        lower.count = move;
+        moveItems(node, move, node, 0, node.count - move);
+        node.count -= move;
+        recount(node);
+        recount(lower);
+        return lower;
+    }
+
+    /**
+     * Helper method that appends the items of b to a, its left neighbour
+     * of the same height, leaving b unused
+     */
+    private static void mergeIntoLeft(Node a, Node b) {
+        moveItems(b, 0, a, a.count, b.count);
+        a.count += b.count;
+        a.size += b.size;
+        if (a instanceof Leaf) {
+            Leaf leaf = (Leaf) a;
+            leaf.next = ((Leaf) b).next;
+            if (leaf.next != null) {
+                leaf.next.prev = leaf;
+            }
+        }
+    }
+
+    /**
+     * Helper method that prepends the items of a to b, its right neighbour
+     * of the same height, leaving a unused
+     */
+    private static void mergeIntoRight(Node a, Node b) {
+        moveItems(b, 0, b, a.count, b.count);
+        moveItems(a, 0, b, 0, a.count);
+        b.count += a.count;
+        b.size += a.size;
+        if (b instanceof Leaf) {
+            Leaf leaf = (Leaf) b;
+            leaf.prev = ((Leaf) a).prev;
+            if (leaf.prev != null) {
+                leaf.prev.next = leaf;
+            }
+        }
+    }
+
+    /**
+     * Helper method that evens out the items of two neighbours of the
+     * same height, so both are at least half full when they hold more
+     * than one node's worth together
+     */
+    private static void share(Node a, Node b) {
+        int total = a.count + b.count;
+        int target = total / 2;
+        if (a.count > target) {
+            int move = a.count - target;
+            moveItems(b, 0, b, move, b.count);
+            moveItems(a, target, b, 0, move);
+            b.count += move;
+            a.count = target;
+        } else if (a.count < target) {
+            int move = target - a.count;
+            moveItems(b, 0, a, a.count, move);
+            a.count = target;
+            moveItems(b, move, b, 0, b.count - move);
+            b.count -= move;
+        }
+        recount(a);
+        recount(b);
+    }
+
+    /**
+     * Helper method that copies count items (values or children) from one
+     * node to another of the same kind. Overlapping moves within one node
+     * are allowed; callers update the counts.
+     */
+    private static void moveItems(Node from, int fromPos, Node to, int toPos, int count) {
+        if (from instanceof Leaf) {
+            System.arraycopy(((Leaf) from).values, fromPos, ((Leaf) to).values, toPos, count);
+        } else {
+            System.arraycopy(((Inner) from).children, fromPos, ((Inner) to).children, toPos, count);
+        }
+    }
+
+    /**
+     * Helper method that recomputes the size of a node from its items
+     * and clears the slots past its count
+     */
+    private static void recount(Node node) {
+        if (node instanceof Leaf) {
+            node.size = node.count;
+            return;
+        }
+        Node[] children = ((Inner) node).children;
+        int size = 0;
+        for (int i = 0; i < node.count; i++) {
+            size += children[i].size;
+        }
+        for (int i = node.count; i < children.length; i++) {
+            children[i] = null;
+        }
+        node.size = size;
+    }
+
+    private static Node emptyLike(Node node) {
+        return node instanceof Leaf ? new Leaf() : new Inner(node.height());
+    }
+
+    private static void insertChild(Inner inner, int position, Node child) {
+        System.arraycopy(inner.children, position, inner.children, position + 1,
+                inner.count - position);
+        inner.children[position] = child;
+        inner.count++;
+    }
+
+    private static void removeChild(Inner inner, int position) {
+        System.arraycopy(inner.children, position + 1, inner.children, position,
+                inner.count - position - 1);
+        inner.count--;
+        inner.children[inner.count] = null;
+    }
+
+    private static void linkLeafAfter(Leaf leaf, Leaf upper) {
+        upper.next = leaf.next;
+        if (upper.next != null) {
+            upper.next.prev = upper;
+        }
+        leaf.next = upper;
+        upper.prev = leaf;
+    }
+
+    private static Leaf firstLeaf(Node node) {
+        while (node instanceof Inner) {
+            node = ((Inner) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private static Leaf lastLeaf(Node node) {
+        while (node instanceof Inner) {
+            node = ((Inner) node).children[node.count - 1];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Walks the leaf chain and searches each leaf with IntSearch.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        if (root == null) {
+            return -1;
+        }
+        int start = 0;
+        for (Leaf leaf = firstLeaf(root); leaf != null; leaf = leaf.next) {
+            int offset = IntSearch.indexOf(leaf.values, 0, leaf.count, value);
+            if (offset != -1) {
+                return start + offset;
+            }
+            start += leaf.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Walks the leaf chain from the back.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        if (root == null) {
+            return -1;
+        }
+        int start = root.size;
+        for (Leaf leaf = lastLeaf(root); leaf != null; leaf = leaf.prev) {
+            start -= leaf.count;
+            int offset = IntSearch.lastIndexOf(leaf.values, 0, leaf.count, value);
+            if (offset != -1) {
+                return start + offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of value
+     */
+    @Override
+    public int count(int value) {
+        if (root == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Leaf leaf = firstLeaf(root); leaf != null; leaf = leaf.next) {
+            count += IntSearch.count(leaf.values, 0, leaf.count, value);
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back, copying a leaf at a time.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size()];
+        if (root != null) {
+            int start = 0;
+            for (Leaf leaf = firstLeaf(root); leaf != null; leaf = leaf.next) {
+                System.arraycopy(leaf.values, 0, values, start, leaf.count);
+                start += leaf.count;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the number of levels in the tree, 0 when the list is empty
+     * and 1 while all the values fit in one leaf.
+     * @return the depth of the tree
+     */
+    public int depth() {
+        return root == null ? 0 : root.height() + 1;
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new LeafIterator(root == null ? null : firstLeaf(root));
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * a leaf at a time.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        if (root == null) {
+            return;
+        }
+        for (Leaf leaf = firstLeaf(root); leaf != null; leaf = leaf.next) {
+            int[] values = leaf.values;
+            for (int i = 0; i < leaf.count; i++) {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. Each split cuts
+     * the tree at the middle of its range, descending by counts, so
+     * splitting is O(log n) and copies nothing.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new TreeSpliterator(root, 0, size());
+    }
+
+    /**
+     * helper class/type that covers the values from index to end of a
+     * tree, finding the start leaf by descending only when it first runs
+     */
+    private static final class TreeSpliterator implements Spliterator.OfInt {
+
+        private final Node root;
+        private int index;
+        private final int end;
+        private Leaf leaf;
+        private int offset;
+
+        private TreeSpliterator(Node root, int index, int end) {
+            this.root = root;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int remaining = end - index;
+            if (leaf != null || remaining <= LEAF_CAPACITY) {
+                return null;
+            }
+            int middle = index + remaining / 2;
+            TreeSpliterator prefix = new TreeSpliterator(root, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        /**
+         * Helper method that descends to the leaf holding index
+         */
+        private void start() {
+            Node node = root;
+            int position = index;
+            while (node instanceof Inner) {
+                Node[] children = ((Inner) node).children;
+                int i = 0;
+                while (position >= children[i].size) {
+                    position -= children[i].size;
+                    i++;
+                }
+                node = children[i];
+            }
+            leaf = (Leaf) node;
+            offset = position;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            if (leaf == null) {
+                start();
+            } else if (offset == leaf.count) {
+                leaf = leaf.next;
+                offset = 0;
+            }
+            action.accept(leaf.values[offset++]);
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            if (index >= end) {
+                return;
+            }
+            if (leaf == null) {
+                start();
+            }
+            while (index < end) {
+                if (offset == leaf.count) {
+                    leaf = leaf.next;
+                    offset = 0;
+                }
+                int stop = Math.min(leaf.count, offset + end - index);
+                int[] values = leaf.values;
+                for (int i = offset; i < stop; i++) {
+                    action.accept(values[i]);
+                }
+                index += stop - offset;
+                offset = stop;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * helper class/type that defines how the iterator works,
+     * following the leaf chain
+     */
+    private static final class LeafIterator implements PrimitiveIterator.OfInt {
+
+        private Leaf leaf;
+        private int offset;
+
+        private LeafIterator(Leaf first) {
+            leaf = first;
+            offset = 0;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (offset < leaf.count || leaf.next != null);
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no next one to go to!");
+            }
+            if (offset == leaf.count) {
+                leaf = leaf.next;
+                offset = 0;
+            }
+            return leaf.values[offset++];
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder list = new StringBuilder("BTreeIntList{Size: ")
+                .append(size()).append(", list [");
+        PrimitiveIterator.OfInt itr = intIterator();
+        while (itr.hasNext()) {
+            list.append(itr.nextInt());
+            if (itr.hasNext()) {
+                list.append(" -> ");
+            }
+        }
+        return list.append("]}").toString();
+    }
+}
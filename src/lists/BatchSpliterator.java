@@ -0,0 +1,85 @@
+package lists;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator for lists that can only be walked value by value, such as
+ * the linked lists. They cannot be split by index, so each split walks
+ * the next batch of values into an array, with batches growing so large
+ * lists split in few steps.
+ *
+ * A subclass keeps the position of the walk and supplies nextValue().
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+abstract class BatchSpliterator implements Spliterator.OfInt {
+
+    // batch sizes grow by BATCH_UNIT per split up to MAX_BATCH
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    private int remaining;
+    private int batch;
+
+    /**
+     * Constructor for BatchSpliterator that covers the next
+     * remaining values of the walk
+     * @param remaining number of values left to visit
+     */
+    BatchSpliterator(int remaining) {
+        this.remaining = remaining;
+    }
+
+    /**
+     * Returns the value at the current position and moves to the next
+     * one. Called at most as many times as there are values remaining.
+     * @return the value at the current position
+     */
+    abstract int nextValue();
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        if (remaining <= 1) {
+            return null;
+        }
+        int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+        int[] values = new int[n];
+        for (int j = 0; j < n; j++) {
+            values[j] = nextValue();
+        }
+        batch = n;
+        remaining -= n;
+        return Spliterators.spliterator(values, 0, n, Spliterator.ORDERED);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (remaining <= 0) {
+            return false;
+        }
+        remaining--;
+        action.accept(nextValue());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        for (int j = remaining; j > 0; j--) {
+            action.accept(nextValue());
+        }
+        remaining = 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
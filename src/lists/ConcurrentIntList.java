@@ -0,0 +1,487 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Class that stores ints in an int[] like ArrayIntList and can be shared
+ * between threads.
+ *
+ * Reads (get, contains, indexOf, lastIndexOf, count, size, toArray) first
+ * run without locking under a StampedLock optimistic stamp and only keep
+ * their result if no write happened meanwhile. Otherwise they run again
+ * under the read lock. Readers never block each other or write to shared
+ * memory, so read-mostly workloads scale with the number of cores.
+ * Writes take the exclusive write lock.
+ *
+ * Iterators, spliterators and forEachInt work on a snapshot taken
+ * when they are created, so they never see a write half done.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class ConcurrentIntList implements IntList {
+
+    /**
+     * Capacity a new ConcurrentIntList starts with
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    // fields, only written under the write lock:
+    private final StampedLock lock = new StampedLock();
+    private int[] buffer;
+    private int size;
+
+    /**
+     * Something that reads the values, given a buffer and a size that
+     * are only consistent if the read is validated afterwards
+     */
+    @FunctionalInterface
+    private interface BufferRead {
+        int apply(int[] data, int size);
+    }
+
+    /**
+     * Constructor for ConcurrentIntList created a new
+     * ConcurrentIntList with a buffer of 10
+     */
+    public ConcurrentIntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for ConcurrentIntList creates a new ConcurrentIntList
+     * with a buffer of the specified capacity
+     * @param initialCapacity length of the starting buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public ConcurrentIntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Capacity cannot be negative: " + initialCapacity);
+        }
+        buffer = new int[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        long stamp = lock.writeLock();
+        try {
+            insert(0, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        long stamp = lock.writeLock();
+        try {
+            insert(size, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(
+                        "Index must be in the Range 0-" + size);
+            }
+            insert(index, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the
+     * list as one write.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        long stamp = lock.writeLock();
+        try {
+            insertValues(size, values);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends all the values of the specified list, in order, to the back
+     * of this list as one write. The other list is read before the lock
+     * is taken, so adding a list to itself is safe.
+     *
+     * @param other list whose values are to be inserted
+     */
+    @Override
+    public void addAll(IntList other) {
+        addAll(other.toArray());
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list as one write.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(
+                        "Index must be in the Range 0-" + size);
+            }
+            insertValues(index, values);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     */
+    @Override
+    public void removeFront() {
+        long stamp = lock.writeLock();
+        try {
+            if (size > 0) {
+                delete(0);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        long stamp = lock.writeLock();
+        try {
+            if (size > 0) {
+                delete(size - 1);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(
+                        "Index must be in the Range 0-" + (size - 1));
+            }
+            return delete(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Helper method that inserts a value, holding the write lock
+     */
+    private void insert(int index, int value) {
+        if (size == buffer.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = value;
+        size++;
+    }
+
+    /**
+     * Helper method that inserts values, holding the write lock
+     */
+    private void insertValues(int index, int[] values) {
+        int count = values.length;
+        if (count > buffer.length - size) {
+            grow(size + count);
+        }
+        System.arraycopy(buffer, index, buffer, index + count, size - index);
+        System.arraycopy(values, 0, buffer, index, count);
+        size += count;
+    }
+
+    /**
+     * Helper method that removes a value, holding the write lock
+     */
+    private int delete(int index) {
+        int removedValue = buffer[index];
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Helper method that copies the values into a new buffer at least
+     * twice as long. Readers still holding the old buffer see it unchanged.
+     * @param minCapacity the number of values to make room for
+     * @throws OutOfMemoryError if minCapacity overflowed int
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity overflows int");
+        }
+        int newCapacity = Math.max(buffer.length << 1, DEFAULT_CAPACITY);
+        if (newCapacity < minCapacity || newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     * Tries an optimistic read first.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int[] data = buffer;
+        int n = size;
+        // a racing write can leave size and buffer out of step, so guard both
+        int value = index >= 0 && index < n && index < data.length ? data[index] : 0;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = size;
+                if (index >= 0 && index < n) {
+                    value = buffer[index];
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (n - 1));
+        }
+        return value;
+    }
+
+    /**
+     * Helper method that runs a read without locking and keeps its result
+     * if no write happened meanwhile, otherwise runs it again under the
+     * read lock
+     * @param read the read to run
+     * @return the result of a validated run
+     */
+    private int read(BufferRead read) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int[] data = buffer;
+            int result = read.apply(data, Math.min(size, data.length));
+            if (lock.validate(stamp)) {
+                return result;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return read.apply(buffer, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        return read((data, n) -> IntSearch.indexOf(data, 0, n, value));
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        return read((data, n) -> IntSearch.lastIndexOf(data, 0, n, value));
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of value
+     */
+    @Override
+    public int count(int value) {
+        return read((data, n) -> IntSearch.count(data, 0, n, value));
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int n = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Removes all the values from this list.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a new array containing all the values in this list at one
+     * moment, in order from front to back.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int[] data = buffer;
+            int[] values = Arrays.copyOf(data, Math.min(size, data.length));
+            if (lock.validate(stamp)) {
+                return values;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(buffer, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over a snapshot of the values.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Performs the given action on each value of a snapshot of this list.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (int value : toArray()) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the values, which later
+     * writes do not affect.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        int[] values = toArray();
+        return Spliterators.spliterator(values, 0, values.length,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentIntList{" +
+                "buffer=" + Arrays.toString(toArray()) +
+                '}';
+    }
+}
@@ -0,0 +1,424 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Class that stores ints in an int[] that is never changed once
+ * published (copy-on-write), for lists that are shared between threads,
+ * read very often and changed rarely.
+ *
+ * Every write copies the values into a new array of exactly the new size
+ * and publishes it through a volatile field. Reads take no lock: they
+ * read the field once and work on that array, which no one writes to
+ * again. Iterators, spliterators and forEachInt see the values as they
+ * were when they were created. Writes are serialized on a lock and cost
+ * O(n) each, so use mutate() to apply many edits with at most two.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class CowIntList implements IntList {
+
+    private static final int[] EMPTY = new int[0];
+
+    // fields:
+    private final Object lock = new Object();
+    private volatile int[] values;
+
+    /**
+     * Constructor for CowIntList creates a new empty CowIntList
+     */
+    public CowIntList() {
+        values = EMPTY;
+    }
+
+    /**
+     * Constructor for CowIntList creates a new CowIntList holding a
+     * copy of the specified values
+     * @param values the starting values
+     */
+    public CowIntList(int[] values) {
+        this.values = values.length == 0 ? EMPTY : values.clone();
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        synchronized (lock) {
+            values = inserted(values, 0, value);
+        }
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        synchronized (lock) {
+            int[] current = values;
+            values = inserted(current, current.length, value);
+        }
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        synchronized (lock) {
+            int[] current = values;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException(
+                        "Index must be in the Range 0-" + current.length);
+            }
+            values = inserted(current, index, value);
+        }
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the
+     * list with one copy.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        synchronized (lock) {
+            int[] current = this.values;
+            this.values = inserted(current, current.length, values);
+        }
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list with one copy.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        synchronized (lock) {
+            int[] current = this.values;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException(
+                        "Index must be in the Range 0-" + current.length);
+            }
+            this.values = inserted(current, index, values);
+        }
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     */
+    @Override
+    public void removeFront() {
+        synchronized (lock) {
+            int[] current = values;
+            if (current.length > 0) {
+                values = removed(current, 0);
+            }
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        synchronized (lock) {
+            int[] current = values;
+            if (current.length > 0) {
+                values = removed(current, current.length - 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        synchronized (lock) {
+            int[] current = values;
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException(
+                        "Index must be in the Range 0-" + (current.length - 1));
+            }
+            values = removed(current, index);
+            return current[index];
+        }
+    }
+
+    /**
+     * Applies many edits as one write. The edits run on a private working
+     * copy of the values, which is published once they finish, so the
+     * list is copied the same number of times however many edits there
+     * are: once into the working copy, which has room for half as many
+     * values again and never shrinks, and once more to trim it unless the
+     * edits leave it exactly full. Edits that grow it past that room cost
+     * one more copy each time it doubles. Readers see either none or all
+     * of the edits. If the edits throw, nothing is published.
+     *
+     * The working copy must not be used after edits returns, and edits
+     * must not change this list directly.
+     *
+     * @param edits the edits to apply to the working copy
+     */
+    public void mutate(Consumer<IntList> edits) {
+        synchronized (lock) {
+            int[] current = values;
+            ArrayIntList working = new ArrayIntList(
+                    Math.max(current.length + (current.length >> 1), ArrayIntList.DEFAULT_CAPACITY));
+            working.setShrinkPolicy(ArrayIntList.ShrinkPolicy.NEVER);
+            working.addAll(current);
+            edits.accept(working);
+            values = working.isEmpty() ? EMPTY : working.detachBuffer();
+        }
+    }
+
+    /**
+     * Helper method that returns a copy of values with value inserted at index
+     */
+    private static int[] inserted(int[] current, int index, int value) {
+        int[] next = new int[current.length + 1];
+        System.arraycopy(current, 0, next, 0, index);
+        next[index] = value;
+        System.arraycopy(current, index, next, index + 1, current.length - index);
+        return next;
+    }
+
+    /**
+     * Helper method that returns a copy of values with added inserted at index
+     */
+    private static int[] inserted(int[] current, int index, int[] added) {
+        if (added.length == 0) {
+            return current;
+        }
+        int[] next = new int[current.length + added.length];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(added, 0, next, index, added.length);
+        System.arraycopy(current, index, next, index + added.length, current.length - index);
+        return next;
+    }
+
+    /**
+     * Helper method that returns a copy of values without the value at index
+     */
+    private static int[] removed(int[] current, int index) {
+        if (current.length == 1) {
+            return EMPTY;
+        }
+        int[] next = new int[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        return next;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        int[] current = values;
+        if (index < 0 || index >= current.length) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (current.length - 1));
+        }
+        return current[index];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int[] current = values;
+        return IntSearch.indexOf(current, 0, current.length, value);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        int[] current = values;
+        return IntSearch.lastIndexOf(current, 0, current.length, value);
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of value
+     */
+    @Override
+    public int count(int value) {
+        int[] current = values;
+        return IntSearch.count(current, 0, current.length, value);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Removes all the values from this list.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            values = EMPTY;
+        }
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns a primitive iterator over the values as they are now.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new SnapshotIterator(values);
+    }
+
+    /**
+     * Performs the given action on each value as they are now.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (int value : values) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values as they are now, which
+     * later writes do not affect.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        int[] current = values;
+        return Spliterators.spliterator(current, 0, current.length,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        return "CowIntList{" +
+                "values=" + Arrays.toString(values) +
+                '}';
+    }
+
+    /**
+     * Iterator over one published array. Nothing writes to the array
+     * again, so it needs no checks for concurrent modification.
+     */
+    private static final class SnapshotIterator implements PrimitiveIterator.OfInt {
+
+        private final int[] snapshot;
+        private int next;
+
+        private SnapshotIterator(int[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public int nextInt() {
+            if (next >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+            return snapshot[next++];
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int[] values = snapshot;
+            for (int i = next; i < values.length; i++) {
+                action.accept(values[i]);
+            }
+            next = values.length;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package lists;
 
-import java.util.Iterator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
 import interfaces.IntList;
+import interfaces.IntListIterator;
 
 /**
  * Creates a doubly linked list and implements methods in IntList
@@ -16,16 +22,50 @@ public class DoublyLinkedIntList implements IntList {
     private Node back;
     private int size;
 
+    // a recently used node and its index; positional operations start from
+    // whichever of front, back and finger is closest to the target index.
+    // finger is null when there is no usable position
+    private Node finger;
+    private int fingerIndex;
+
+    // counts structural changes so iterators can detect outside edits
+    private int modCount;
+
+    // removed nodes kept for reuse, linked through next; at most
+    // poolCapacity of them are kept, 0 turns recycling off
+    private final int poolCapacity;
+    private Node pool;
+    private int pooled;
+    private long poolHits;
+    private long poolMisses;
+
     /**
      * Constructor for DoublyLinkedIntList
       */
     public DoublyLinkedIntList() {
+        this(0);
+    }
+
+    /**
+     * Constructor for a DoublyLinkedIntList that keeps up to poolCapacity
+     * removed nodes and reuses them for later insertions, so queue-like
+     * add/remove churn does not allocate
+     * @param poolCapacity most removed nodes to keep, 0 for none
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public DoublyLinkedIntList(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Pool capacity cannot be negative: " + poolCapacity);
+        }
+        this.poolCapacity = poolCapacity;
         // an empty list has two sentinel (dummy) nodes that serve as bookends
         front = new Node(0);
         back = new Node(0);
         front.next = back;
         back.prev = front;
         size = 0;
+        finger = null;
     }
 
     private class Node {
@@ -39,6 +79,12 @@ public class DoublyLinkedIntList implements IntList {
             prev = null;
         }
 
+        public Node(int dataValue, Node nextNode) {
+            data = dataValue;
+            next = nextNode;
+            prev = null;
+        }
+
         @Override
         public String toString() {
             return "Node{" +
@@ -60,7 +106,7 @@ public class DoublyLinkedIntList implements IntList {
     public void addFront(int value) {
 
         // Create new node with int value;
-        Node addedToFront = new Node(value);
+        Node addedToFront = newNode(value, null);
 
         // Assign new Node prev and next locators
         addedToFront.prev = front;
@@ -70,7 +116,10 @@ public class DoublyLinkedIntList implements IntList {
         front.next.prev = addedToFront;
         front.next = addedToFront;
 
+        // every node after the new one moved one index to the right
+        fingerIndex++;
         size++;
+        modCount++;
     }
 
     /**
@@ -83,7 +132,7 @@ public class DoublyLinkedIntList implements IntList {
         Node theLastNode = back.prev;
 
         // set up my new node and fill it out (data, prev, next)
-        Node theNewNode = new Node(value);
+        Node theNewNode = newNode(value, null);
         theNewNode.next = back;
         theNewNode.prev = theLastNode;
 
@@ -94,6 +143,7 @@ public class DoublyLinkedIntList implements IntList {
         theLastNode.next = theNewNode;
 
         size++;
+        modCount++;
     }
 
     /**
@@ -108,36 +158,87 @@ public class DoublyLinkedIntList implements IntList {
     @Override
     public void add(int index, int value) {
 
-        // Counter
-        int dex = 0;
-        // Create new Node
-        Node nodeAtIndex = new Node(value);
-        Node current = front.next;
-
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException(
-                    "Index must be in the Range 0-" + (size - 1));
+                    "Index must be in the Range 0-" + size);
+        }
+        // Conditional: If index is size of List skip the search and add to back
+        if (index == size) {
+            this.addBack(value);
         } else {
-            // Conditional: If index is size of List skip loop and add to back
-            if (index == size) {
-                this.addBack(value);
-            } else {
-                while (current != back) {
-                    if (index == dex) {
-                        // Assign the new node's prev and next locators
-                        nodeAtIndex.prev = current.prev;
-                        nodeAtIndex.next = current;
-                        // Connect new Node to list
-                        current.prev.next = nodeAtIndex;
-                        current.prev = nodeAtIndex;
-                    }
-                    dex++;
-                    current = current.next;
-                } size++;
-            }
+            Node current = nodeAt(index);
+            Node nodeAtIndex = newNode(value, null);
+
+            // Assign the new node's prev and next locators
+            nodeAtIndex.prev = current.prev;
+            nodeAtIndex.next = current;
+            // Connect new Node to list
+            current.prev.next = nodeAtIndex;
+            current.prev = nodeAtIndex;
+
+            // the new node now holds index, keep the finger on it
+            finger = nodeAtIndex;
+            fingerIndex = index;
+            size++;
+            modCount++;
         }
     }
 
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. The new nodes are chained together first and
+     * then spliced in front of the node at index in one step.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (values.length == 0) {
+            return;
+        }
+
+        // build the new chain before touching the list
+        Node first = newNode(values[0], null);
+        Node last = first;
+        for (int i = 1; i < values.length; i++) {
+            Node theNewNode = newNode(values[i], null);
+            theNewNode.prev = last;
+            last.next = theNewNode;
+            last = theNewNode;
+        }
+
+        // find the node that will follow the chain (back when appending)
+        Node current = index == size ? back : nodeAt(index);
+
+        // connect the chain between current.prev and current
+        first.prev = current.prev;
+        last.next = current;
+        current.prev.next = first;
+        current.prev = last;
+
+        // the first new node now holds index, keep the finger on it
+        finger = first;
+        fingerIndex = index;
+        size += values.length;
+        modCount++;
+    }
+
     /**
      * Removes the value located at the front of the list
      * (at index 0), if it is present.
@@ -147,12 +248,19 @@ public class DoublyLinkedIntList implements IntList {
     public void removeFront() {
 
         if (size > 0) {
+            if (finger == front.next) {
+                finger = null;
+            }
+            fingerIndex--;
+            Node theOneToRemove = front.next;
             // Assign Front next locator to second Node
             front.next = front.next.next;
             // Assign the new first node's prev locator to front
             front.next.prev = front;
+            recycle(theOneToRemove);
             // Decrement size
             size--;
+            modCount++;
         }
     }
 
@@ -166,16 +274,21 @@ public class DoublyLinkedIntList implements IntList {
         if (size > 0) {
             // set up a temp variable for convenience
             Node theOneToRemove = back.prev;
+            if (finger == theOneToRemove) {
+                finger = null;
+            }
 
             theOneToRemove.prev.next = back;
             back.prev = theOneToRemove.prev;
 
-            // optional to clean up
+            // clean up, keeping the node for reuse if there is room
             theOneToRemove.next = null;
             theOneToRemove.prev = null;
             theOneToRemove.data = 0;
+            recycle(theOneToRemove);
 
             size--;
+            modCount++;
         }
     }
 
@@ -191,43 +304,32 @@ public class DoublyLinkedIntList implements IntList {
     @Override
     public int remove(int index) {
 
-        int dex = 0;
-        Node current = front.next;
-
-        if (index < 0 || index > size) {
+        if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException(
                     "Index must be in the Range 0-" + (size - 1));
+        }
+        Node current = nodeAt(index);
+        int removedValue = current.data;
+        current.prev.next = current.next;
+        current.next.prev = current.prev;
+        size--;
+        modCount++;
+
+        // the node after the removed one now holds index
+        if (current.next != back) {
+            finger = current.next;
+            fingerIndex = index;
         } else {
-            // Conditional to skip looping if index is first node
-            if (index == 0) {
-                int removedValue = current.data;
-                removeFront();
-                return removedValue;
-            // Conditional to skip looping if index is last node
-            } else if (index == size - 1) {
-                int removedValue = back.prev.data;
-                removeBack();
-                return removedValue;
-            // Loop to find the node at index position
-            } else {
-                while (current != back) {
-                    if (index == dex) {
-                        int removedValue = current.data;
-                        current.prev.next = current.next;
-                        current.next.prev = current.prev;
-                        size--;
-                        return removedValue;
-                    } else {
-                        current = current.next;
-                        dex++;
-                    }
-                }
-            }
-        } return 0;
+            finger = null;
+        }
+        recycle(current);
+        return removedValue;
     }
 
     /**
      * Returns the value at the specified position in the list.
+     * Walks from whichever of front, back or the last used node
+     * is closest to index.
      *
      * @param index index of the value to return
      * @return the value at the specified position in this list
@@ -236,33 +338,47 @@ public class DoublyLinkedIntList implements IntList {
     @Override
     public int get(int index) {
 
-        // Counter
-        int dex = 0;
-        // Position
-        Node current = front.next;
-
         if (index < 0 || index >= size) {
                 throw new IndexOutOfBoundsException(
                     "Index must be in the Range 0-" + (size - 1));
+        }
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Helper method that finds the Node at a valid index, walking from
+     * whichever of front, back and finger is closest, so a walk is at most
+     * size / 2 hops and edits near the last one are close to O(1).
+     * The found node becomes the new finger.
+     * @param index index of the node, between 0 and size - 1
+     * @return the Node at index
+     */
+    private Node nodeAt(int index) {
+        Node current;
+        int dex;
+        int fromBack = size - 1 - index;
+        if (index <= fromBack) {
+            current = front.next;
+            dex = 0;
         } else {
-            //Skip looping if index is at front of list
-            if (index == 0) {
-                return current.data;
-                // Skip looping if index is at back of list
-            } else if (index == size - 1) {
-                return back.prev.data;
-                // If index is in acceptable range loop to find Node at index value
-            } else {
-                while (current != back) {
-                    if (index == dex) {
-                        return current.data;
-                    } else {
-                        dex++;
-                        current = current.next;
-                    }
-                } return current.data;
-            }
+            current = back.prev;
+            dex = size - 1;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < Math.min(index, fromBack)) {
+            current = finger;
+            dex = fingerIndex;
+        }
+        while (dex < index) {
+            current = current.next;
+            dex++;
         }
+        while (dex > index) {
+            current = current.prev;
+            dex--;
+        }
+        finger = current;
+        fingerIndex = index;
+        return current;
     }
 
     /**
@@ -331,18 +447,426 @@ public class DoublyLinkedIntList implements IntList {
      */
     @Override
     public void clear() {
+        // feed the pool from the front until it is full
+        Node current = front.next;
+        while (current != back && pooled < poolCapacity) {
+            Node next = current.next;
+            recycle(current);
+            current = next;
+        }
         front.next = back;
         back.prev = front;
+        finger = null;
         size = 0;
+        modCount++;
     }
 
     /**
-     * Returns an iterator over elements of type {@code T}.
-     * @return an Iterator.
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     * @return an array of the values in this list
      */
     @Override
-    public Iterator<Integer> iterator() {
-        return null;
+    public int[] toArray() {
+        int[] values = new int[size];
+        Node current = front.next;
+        for (int i = 0; i < size; i++) {
+            values[i] = current.data;
+            current = current.next;
+        }
+        return values;
+    }
+
+    /**
+     * Moves all the values of other to the back of this list by linking
+     * its nodes in before the back sentinel, leaving other empty. No node
+     * is copied, so this runs in O(1) whatever the sizes.
+     *
+     * @param other list whose nodes are moved
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void appendAll(DoublyLinkedIntList other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if (other.size == 0) {
+            return;
+        }
+        Node first = other.front.next;
+        Node last = other.back.prev;
+        Node theLastNode = back.prev;
+
+        // connect other's chain between our last node and our back sentinel
+        theLastNode.next = first;
+        first.prev = theLastNode;
+        last.next = back;
+        back.prev = last;
+
+        size += other.size;
+        modCount++;
+        other.detach();
+    }
+
+    /**
+     * Moves all the values of this list to the back of target, leaving
+     * this list empty. A DoublyLinkedIntList target takes the nodes in O(1)
+     * through appendAll(); any other IntList gets the values in one
+     * addAll().
+     *
+     * @param target list the values are moved to
+     * @throws IllegalArgumentException if target is this list
+     */
+    public void transferAllTo(IntList target) {
+        if (target == this) {
+            throw new IllegalArgumentException("Cannot transfer a list to itself");
+        }
+        if (target instanceof DoublyLinkedIntList) {
+            ((DoublyLinkedIntList) target).appendAll(this);
+        } else {
+            target.addAll(toArray());
+            clear();
+        }
+    }
+
+    /**
+     * Moves the values from index on into a new list and returns it,
+     * leaving the values before index in this list. The node at index is
+     * found like get(index) finds it, then the chain is moved between the
+     * new list's sentinels without copying any node.
+     *
+     * @param index index of the first value to move
+     * @return a new list holding the values from index on
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public DoublyLinkedIntList splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        DoublyLinkedIntList rest = new DoublyLinkedIntList(poolCapacity);
+        if (index == size) {
+            return rest;
+        }
+        Node first = nodeAt(index);
+        Node last = back.prev;
+        Node theLastNode = first.prev;
+
+        // hang first..last between the new list's sentinels
+        rest.front.next = first;
+        first.prev = rest.front;
+        last.next = rest.back;
+        rest.back.prev = last;
+        rest.size = size - index;
+
+        // and close this list after the node before index
+        theLastNode.next = back;
+        back.prev = theLastNode;
+        size = index;
+        finger = null;
+        modCount++;
+        return rest;
+    }
+
+    /**
+     * Helper method that empties the list without recycling its nodes,
+     * after they were moved to another list
+     */
+    private void detach() {
+        front.next = back;
+        back.prev = front;
+        finger = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns how many node allocations were avoided by reusing
+     * a recycled node.
+     *
+     * @return the number of insertions served from the node pool
+     */
+    public long poolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Returns how many insertions had to allocate a new node because
+     * the node pool was empty.
+     *
+     * @return the number of insertions that missed the node pool
+     */
+    public long poolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * Returns the number of removed nodes currently kept for reuse.
+     *
+     * @return the number of nodes in the pool
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * Helper method that takes a node from the pool, or allocates
+     * one when the pool is empty
+     * @param value value of the node
+     * @param next node to link after it
+     * @return a node holding value and linked to next
+     */
+    private Node newNode(int value, Node next) {
+        Node node = pool;
+        if (node == null) {
+            poolMisses++;
+            return new Node(value, next);
+        }
+        poolHits++;
+        pool = node.next;
+        pooled--;
+        node.data = value;
+        node.next = next;
+        return node;
+    }
+
+    /**
+     * Helper method that keeps a node that has been unlinked from the
+     * list for reuse, unless the pool is full
+     * @param node the removed node, which must not be reachable any more
+     */
+    private void recycle(Node node) {
+        if (pooled < poolCapacity) {
+            node.prev = null;
+            node.next = pool;
+            pool = node;
+            pooled++;
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     * @return a PrimitiveIterator.OfInt.
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new DoublyLinkedIterator(front.next, 0);
+    }
+
+    /**
+     * Returns a bidirectional cursor positioned before the first value,
+     * which can set, add and remove values where it stands in O(1).
+     * @return an IntListIterator at the start of the list
+     */
+    public IntListIterator listIterator() {
+        return new DoublyLinkedIterator(front.next, 0);
+    }
+
+    /**
+     * Returns a bidirectional cursor positioned before the value at the
+     * specified index, which can set, add and remove values where it
+     * stands in O(1).
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public IntListIterator listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        return new DoublyLinkedIterator(index == size ? back : nodeAt(index), index);
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * walking the nodes between the sentinels directly.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (Node current = front.next; current != back; current = current.next) {
+            action.accept(current.data);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list that splits
+     * by copying batches of nodes into arrays.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new NodeSpliterator(front.next, size);
+    }
+
+    /**
+     * helper class/type that feeds BatchSpliterator the values node by node
+     */
+    private class NodeSpliterator extends BatchSpliterator {
+
+        private Node current;
+
+        private NodeSpliterator(Node current, int remaining) {
+            super(remaining);
+            this.current = current;
+        }
+
+        @Override
+        int nextValue() {
+            int value = current.data;
+            current = current.next;
+            return value;
+        }
+    }
+
+    /**
+     * helper class/type that defines how the iterator works. It keeps the
+     * node after the cursor, so moving and splicing are O(1), and fails
+     * fast if the list is changed other than through this iterator.
+     */
+    private class DoublyLinkedIterator implements IntListIterator {
+
+        private Node next;          // node after the cursor, back at the end
+        private Node lastReturned;  // node set() and remove() act on
+        private int nextIndex;
+        private int expectedModCount;
+
+        private DoublyLinkedIterator(Node next, int nextIndex) {
+            this.next = next;
+            this.nextIndex = nextIndex;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            checkForModification();
+            if (next == back) {
+                throw new NoSuchElementException("There is no next one to go to!");
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public int previousInt() {
+            checkForModification();
+            if (next.prev == front) {
+                throw new NoSuchElementException("There is no previous one to go to!");
+            }
+            next = next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void set(int value) {
+            if (lastReturned == null) {
+                throw new IllegalStateException("There is no current value to set");
+            }
+            checkForModification();
+            lastReturned.data = value;
+        }
+
+        @Override
+        public void add(int value) {
+            checkForModification();
+            Node theNewNode = newNode(value, null);
+
+            // connect the new node between next.prev and next
+            theNewNode.prev = next.prev;
+            theNewNode.next = next;
+            next.prev.next = theNewNode;
+            next.prev = theNewNode;
+
+            lastReturned = null;
+            nextIndex++;
+            size++;
+            finger = null;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("There is no current value to remove");
+            }
+            checkForModification();
+
+            // unlink lastReturned from its neighbours
+            lastReturned.prev.next = lastReturned.next;
+            lastReturned.next.prev = lastReturned.prev;
+            if (next == lastReturned) {
+                // removed after previousInt(), the cursor keeps its index
+                next = lastReturned.next;
+            } else {
+                // removed after nextInt(), the cursor moves back one index
+                nextIndex--;
+            }
+            recycle(lastReturned);
+
+            lastReturned = null;
+            size--;
+            finger = null;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (next != back) {
+                checkForModification();
+                lastReturned = next;
+                action.accept(next.data);
+                next = next.next;
+                nextIndex++;
+            }
+        }
+
+        /**
+         * Helper method that throws if the list was changed
+         * other than through this iterator
+         */
+        private void checkForModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "DoublyLinkedIntList was modified outside this iterator");
+            }
+        }
     }
 
     /**
@@ -0,0 +1,572 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Class that stores ints in a gap buffer: an int[] whose free slots form
+ * one gap that sits where the last edit happened, like the text buffer
+ * of an editor. Values before the gap are at the start of the buffer and
+ * values after it at the end.
+ *
+ * Adding or removing at the gap is O(1). An edit somewhere else first
+ * moves the gap there, which copies only the values between the old and
+ * the new position, so a run of edits around one cursor stays cheap.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class GapIntList implements IntList {
+
+    /**
+     * Capacity a new GapIntList starts with
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // fields:
+    private int[] buffer;
+    private int gapStart;   // index of the first free slot, and list index of the gap
+    private int gapEnd;     // index of the first value after the gap
+
+    /**
+     * Constructor for GapIntList creates a new
+     * GapIntList with a buffer of 16
+     */
+    public GapIntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for GapIntList creates a new GapIntList
+     * with a buffer of the specified capacity
+     * @param initialCapacity length of the starting buffer
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GapIntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Initial capacity cannot be negative: " + initialCapacity);
+        }
+        buffer = new int[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        add(size(), value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * The gap is moved to index first, then the value fills its first slot.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (gapStart == gapEnd) {
+            grow(size + 1, index);
+        } else {
+            moveGap(index);
+        }
+        buffer[gapStart++] = value;
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size(), values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list, copying them into the gap in one step. The
+     * gap is left after the new values.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (gapEnd - gapStart < values.length) {
+            grow(size + values.length, index);
+        } else {
+            moveGap(index);
+        }
+        System.arraycopy(values, 0, buffer, gapStart, values.length);
+        gapStart += values.length;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (size() > 0) {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        int size = size();
+        if (size > 0) {
+            remove(size - 1);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Removing the value just before or just after the gap is O(1),
+     * like backspace and delete at an editor's cursor.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        if (index == gapStart - 1) {
+            // the value just before the gap joins it
+            return buffer[--gapStart];
+        }
+        moveGap(index);
+        return buffer[gapEnd++];
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        return buffer[physical(index)];
+    }
+
+    /**
+     * Replaces the value at the specified position in the list
+     * without moving the gap.
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int set(int index, int value) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        int slot = physical(index);
+        int oldValue = buffer[slot];
+        buffer[slot] = value;
+        return oldValue;
+    }
+
+    /**
+     * Helper method that maps a list index to its slot in the buffer
+     * @param index list index
+     * @return the buffer index holding it
+     */
+    private int physical(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Helper method that moves the gap so it starts at index, copying the
+     * values between the old and new gap across it
+     * @param index list index for the gap, between 0 and size
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            // values from index up to the gap move to just before its end
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // values just after the gap move down to its start
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Helper method that copies the values into a larger buffer, at
+     * least double the size, with the gap opened at index
+     * @param minCapacity the number of values to make room for
+     * @param index list index for the gap, between 0 and size
+     */
+    private void grow(int minCapacity, int index) {
+        resize(Math.max(minCapacity, Math.max(buffer.length * 2, DEFAULT_CAPACITY)), index);
+    }
+
+    /**
+     * Helper method that copies the values into a buffer of the given
+     * capacity, with the gap at index
+     * @param capacity length of the new buffer, at least size
+     * @param index list index for the gap, between 0 and size
+     */
+    private void resize(int capacity, int index) {
+        int size = size();
+        int[] newBuffer = new int[capacity];
+        int newGapEnd = capacity - (size - index);
+        // values before index, then values from index on, around the gap
+        if (index <= gapStart) {
+            System.arraycopy(buffer, 0, newBuffer, 0, index);
+            System.arraycopy(buffer, index, newBuffer, newGapEnd, gapStart - index);
+            System.arraycopy(buffer, gapEnd, newBuffer, newGapEnd + gapStart - index,
+                    buffer.length - gapEnd);
+        } else {
+            int after = index - gapStart;
+            System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+            System.arraycopy(buffer, gapEnd, newBuffer, gapStart, after);
+            System.arraycopy(buffer, gapEnd + after, newBuffer, newGapEnd,
+                    buffer.length - gapEnd - after);
+        }
+        buffer = newBuffer;
+        gapStart = index;
+        gapEnd = newGapEnd;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        // search the values before the gap, then the values after it
+        int found = IntSearch.indexOf(buffer, 0, gapStart, value);
+        if (found >= 0) {
+            return found;
+        }
+        found = IntSearch.indexOf(buffer, gapEnd, buffer.length, value);
+        return found >= 0 ? found - (gapEnd - gapStart) : -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        // search the values after the gap, then the values before it
+        int found = IntSearch.lastIndexOf(buffer, gapEnd, buffer.length, value);
+        if (found >= 0) {
+            return found - (gapEnd - gapStart);
+        }
+        return IntSearch.lastIndexOf(buffer, 0, gapStart, value);
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of value
+     */
+    @Override
+    public int count(int value) {
+        return IntSearch.count(buffer, 0, gapStart, value)
+                + IntSearch.count(buffer, gapEnd, buffer.length, value);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Removes all the values from this list, which turns the whole
+     * buffer into the gap. The buffer is kept.
+     */
+    @Override
+    public void clear() {
+        gapStart = 0;
+        gapEnd = buffer.length;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size()];
+        System.arraycopy(buffer, 0, values, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, values, gapStart, buffer.length - gapEnd);
+        return values;
+    }
+
+    /**
+     * Returns the list index the gap sits at, where an add or a
+     * removal is O(1).
+     * @return the index of the gap, between 0 and size()
+     */
+    public int gapIndex() {
+        return gapStart;
+    }
+
+    /**
+     * Returns the length of the buffer.
+     * @return the current capacity
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Grows the buffer, if needed, so the list can hold at least
+     * minCapacity values without growing again. The gap stays where it is.
+     * @param minCapacity the number of values to make room for
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            grow(minCapacity, gapStart);
+        }
+    }
+
+    /**
+     * Shrinks the buffer to the size of the list, which closes the gap.
+     */
+    public void trimToSize() {
+        int size = size();
+        if (size < buffer.length) {
+            resize(size, size);
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new GapIterator();
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * the values before the gap and then the values after it.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int[] data = buffer;
+        for (int i = 0; i < gapStart; i++) {
+            action.accept(data[i]);
+        }
+        for (int i = gapEnd; i < data.length; i++) {
+            action.accept(data[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list that
+     * splits by list index.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new GapSpliterator(0, size());
+    }
+
+    // helper class/type that splits the list by list index
+    private class GapSpliterator implements Spliterator.OfInt {
+
+        // private fields:
+        private int index;          // next list index to visit
+        private final int fence;    // one past the last list index to visit
+
+        private GapSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            GapSpliterator prefix = new GapSpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(buffer[physical(index)]);
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int[] data = buffer;
+            int gap = gapEnd - gapStart;
+            int beforeGap = Math.min(fence, gapStart);
+            for (int i = index; i < beforeGap; i++) {
+                action.accept(data[i]);
+            }
+            for (int i = Math.max(index, gapStart); i < fence; i++) {
+                action.accept(data[i + gap]);
+            }
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    //create a private helper Iterator class
+    private class GapIterator implements PrimitiveIterator.OfInt {
+
+        // private fields:
+        private int index;
+
+        private GapIterator() {
+            index = 0;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size();
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (index >= size()) {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            int currentValue = buffer[physical(index)];
+            index++;
+            return currentValue;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GapIntList{" +
+                "size=" + size() +
+                ", gapIndex=" + gapStart +
+                ", buffer=" + Arrays.toString(toArray()) +
+                '}';
+    }
+}
@@ -0,0 +1,729 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+import interfaces.IntListIterator;
+
+/**
+ * Creates a doubly linked list whose nodes are slots in parallel int
+ * arrays instead of objects, and implements methods in IntList.
+ *
+ * Slot i holds data[i] and links to the slots next[i] and prev[i].
+ * Slot 0 is a single sentinel: next[0] is the first node and prev[0]
+ * the last, so both ends are O(1) like the two sentinels of
+ * DoublyLinkedIntList. Removed slots are chained through next[] into a
+ * free list and reused before the arrays grow. A node costs 12 bytes
+ * and no object, so the garbage collector never sees the nodes.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class IndexedLinkedIntList implements IntList {
+
+    private static final int SENTINEL = 0;
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    // largest array length the VM reliably allows
+    private static final int MAX_SLOTS = Integer.MAX_VALUE - 8;
+
+    // Fields
+    private int[] data;
+    private int[] next;
+    private int[] prev;
+    private int size;
+
+    // first never used slot; slots from here to the end of the arrays
+    // have not been handed out yet
+    private int unused;
+    // head of the free slot chain, linked through next, or NONE
+    private int free;
+
+    // a recently used slot and its index, like DoublyLinkedIntList's finger.
+    // finger is NONE when there is no usable position
+    private int finger;
+    private int fingerIndex;
+
+    // counts structural changes so iterators can detect outside edits
+    private int modCount;
+
+    /**
+     * Constructor for IndexedLinkedIntList
+     */
+    public IndexedLinkedIntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an IndexedLinkedIntList with room for
+     * initialCapacity values before the arrays grow
+     * @param initialCapacity number of values to make room for
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IndexedLinkedIntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Initial capacity cannot be negative: " + initialCapacity);
+        }
+        int slots = Math.min(initialCapacity, MAX_SLOTS - 1) + 1;
+        data = new int[slots];
+        next = new int[slots];
+        prev = new int[slots];
+        reset();
+    }
+
+    /**
+     * Helper method that empties the list without touching the arrays
+     */
+    private void reset() {
+        next[SENTINEL] = SENTINEL;
+        prev[SENTINEL] = SENTINEL;
+        unused = 1;
+        free = NONE;
+        finger = NONE;
+        size = 0;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        linkBefore(next[SENTINEL], value);
+        // every node after the new one moved one index to the right
+        fingerIndex++;
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        linkBefore(SENTINEL, value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (index == size) {
+            addBack(value);
+        } else {
+            // the new node now holds index, keep the finger on it
+            finger = linkBefore(slotAt(index), value);
+            fingerIndex = index;
+        }
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Room for all of them is made first, then they
+     * are linked in one after another before the slot at index.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (values.length == 0) {
+            return;
+        }
+        ensureCapacity(size + values.length);
+        int successor = index == size ? SENTINEL : slotAt(index);
+        int first = linkBefore(successor, values[0]);
+        for (int i = 1; i < values.length; i++) {
+            linkBefore(successor, values[i]);
+        }
+        // the first new node now holds index, keep the finger on it
+        finger = first;
+        fingerIndex = index;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (size > 0) {
+            if (finger == next[SENTINEL]) {
+                finger = NONE;
+            }
+            fingerIndex--;
+            unlink(next[SENTINEL]);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (size > 0) {
+            if (finger == prev[SENTINEL]) {
+                finger = NONE;
+            }
+            unlink(prev[SENTINEL]);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        int slot = slotAt(index);
+        int removedValue = data[slot];
+        int after = next[slot];
+        unlink(slot);
+
+        // the node after the removed one now holds index
+        if (after != SENTINEL) {
+            finger = after;
+            fingerIndex = index;
+        } else {
+            finger = NONE;
+        }
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     * Walks from whichever of front, back or the last used slot
+     * is closest to index.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        return data[slotAt(index)];
+    }
+
+    /**
+     * Helper method that finds the slot at a valid index, walking from
+     * whichever of front, back and finger is closest. The found slot
+     * becomes the new finger.
+     * @param index index of the slot, between 0 and size - 1
+     * @return the slot at index
+     */
+    private int slotAt(int index) {
+        int current;
+        int dex;
+        int fromBack = size - 1 - index;
+        if (index <= fromBack) {
+            current = next[SENTINEL];
+            dex = 0;
+        } else {
+            current = prev[SENTINEL];
+            dex = size - 1;
+        }
+        if (finger != NONE && Math.abs(index - fingerIndex) < Math.min(index, fromBack)) {
+            current = finger;
+            dex = fingerIndex;
+        }
+        while (dex < index) {
+            current = next[current];
+            dex++;
+        }
+        while (dex > index) {
+            current = prev[current];
+            dex--;
+        }
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+
+    /**
+     * Helper method that stores value in a fresh slot and links it in
+     * front of successor. Callers adjust the finger.
+     * @param successor slot the new one goes before, SENTINEL for the back
+     * @param value value to be stored
+     * @return the new slot
+     */
+    private int linkBefore(int successor, int value) {
+        if (free == NONE && unused == data.length) {
+            grow(size + 1);
+        }
+        int slot;
+        if (free != NONE) {
+            slot = free;
+            free = next[slot];
+        } else {
+            slot = unused++;
+        }
+        int predecessor = prev[successor];
+        data[slot] = value;
+        next[slot] = successor;
+        prev[slot] = predecessor;
+        next[predecessor] = slot;
+        prev[successor] = slot;
+        size++;
+        modCount++;
+        return slot;
+    }
+
+    /**
+     * Helper method that unlinks a slot and puts it on the free list.
+     * Callers adjust the finger.
+     * @param slot slot holding a value of this list
+     */
+    private void unlink(int slot) {
+        next[prev[slot]] = next[slot];
+        prev[next[slot]] = prev[slot];
+        next[slot] = free;
+        free = slot;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int dex = 0;
+        for (int slot = next[SENTINEL]; slot != SENTINEL; slot = next[slot]) {
+            if (data[slot] == value) {
+                return dex;
+            }
+            dex++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Walks backward from the last slot.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        int dex = size - 1;
+        for (int slot = prev[SENTINEL]; slot != SENTINEL; slot = prev[slot]) {
+            if (data[slot] == value) {
+                return dex;
+            }
+            dex--;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list. The arrays are kept,
+     * so clearing is O(1) and refilling does not allocate.
+     */
+    @Override
+    public void clear() {
+        reset();
+        modCount++;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size];
+        int slot = next[SENTINEL];
+        for (int i = 0; i < size; i++) {
+            values[i] = data[slot];
+            slot = next[slot];
+        }
+        return values;
+    }
+
+    /**
+     * Returns the number of values the list can hold before its arrays
+     * have to grow.
+     * @return the current capacity
+     */
+    public int capacity() {
+        return data.length - 1;
+    }
+
+    /**
+     * Grows the arrays, if needed, so the list can hold at least
+     * minCapacity values without growing again.
+     * @param minCapacity the number of values to make room for
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Rebuilds the arrays at exactly the size of the list with the
+     * values in list order, so slot i + 1 holds index i. This drops
+     * unused capacity and makes later walks sequential in memory.
+     */
+    public void trimToSize() {
+        relayout(size);
+    }
+
+    /**
+     * Helper method that grows the arrays to at least minCapacity values,
+     * doubling so repeated adds stay amortized O(1)
+     * @param minCapacity the number of values to make room for
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity >= MAX_SLOTS) {
+            throw new OutOfMemoryError("IndexedLinkedIntList cannot hold "
+                    + minCapacity + " values");
+        }
+        int slots = (int) Math.min((long) data.length * 2, MAX_SLOTS);
+        slots = Math.max(slots, minCapacity + 1);
+        if (free == NONE) {
+            // slots 1 to unused - 1 are all in use, so they can be copied as is
+            data = Arrays.copyOf(data, slots);
+            next = Arrays.copyOf(next, slots);
+            prev = Arrays.copyOf(prev, slots);
+        } else {
+            // compact away the free slots while growing
+            relayout(slots - 1);
+        }
+    }
+
+    /**
+     * Helper method that copies the values, in list order, into new arrays
+     * with room for capacity values and relinks them
+     * @param capacity the capacity of the new arrays, at least size
+     */
+    private void relayout(int capacity) {
+        int slots = capacity + 1;
+        int[] newData = new int[slots];
+        int[] newNext = new int[slots];
+        int[] newPrev = new int[slots];
+        int slot = next[SENTINEL];
+        for (int i = 1; i <= size; i++) {
+            newData[i] = data[slot];
+            newNext[i] = i + 1;
+            newPrev[i] = i - 1;
+            slot = next[slot];
+        }
+        if (size > 0) {
+            newNext[size] = SENTINEL;
+        }
+        newNext[SENTINEL] = size > 0 ? 1 : SENTINEL;
+        newPrev[SENTINEL] = size;
+        data = newData;
+        next = newNext;
+        prev = newPrev;
+        unused = size + 1;
+        free = NONE;
+        // slot numbers changed, so old positions are meaningless
+        finger = NONE;
+        modCount++;
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public IntListIterator intIterator() {
+        return listIterator();
+    }
+
+    /**
+     * Returns a bidirectional cursor positioned at the front of the list,
+     * which can set, add and remove values where it stands in O(1).
+     * @return an IntListIterator positioned before index 0
+     */
+    public IntListIterator listIterator() {
+        return new IndexedIterator(next[SENTINEL], 0);
+    }
+
+    /**
+     * Returns a bidirectional cursor positioned before the value at the
+     * specified index, which can set, add and remove values where it
+     * stands in O(1).
+     * @param index index of the value the first nextInt() returns
+     * @return an IntListIterator positioned before index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public IntListIterator listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        return new IndexedIterator(index == size ? SENTINEL : slotAt(index), index);
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * following the next links directly.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int[] values = data;
+        int[] links = next;
+        for (int slot = links[SENTINEL]; slot != SENTINEL; slot = links[slot]) {
+            action.accept(values[slot]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list that splits
+     * by copying batches of slots into arrays.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new SlotSpliterator(next[SENTINEL], size);
+    }
+
+    /**
+     * helper class/type that feeds BatchSpliterator the values slot by slot
+     */
+    private class SlotSpliterator extends BatchSpliterator {
+
+        private int current;
+
+        private SlotSpliterator(int current, int remaining) {
+            super(remaining);
+            this.current = current;
+        }
+
+        @Override
+        int nextValue() {
+            int value = data[current];
+            current = next[current];
+            return value;
+        }
+    }
+
+    /**
+     * helper class/type that defines how the iterator works. It keeps the
+     * slot after the cursor, so moving and splicing are O(1), and fails
+     * fast if the list is changed other than through this iterator.
+     */
+    private class IndexedIterator implements IntListIterator {
+
+        private int nextSlot;      // slot after the cursor, SENTINEL at the end
+        private int lastReturned;  // slot set() and remove() act on, or NONE
+        private int nextIndex;
+        private int expectedModCount;
+
+        private IndexedIterator(int nextSlot, int nextIndex) {
+            this.nextSlot = nextSlot;
+            this.nextIndex = nextIndex;
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public int nextInt() {
+            checkForModification();
+            if (nextSlot == SENTINEL) {
+                throw new NoSuchElementException("There is no next one to go to!");
+            }
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return data[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public int previousInt() {
+            checkForModification();
+            if (prev[nextSlot] == SENTINEL) {
+                throw new NoSuchElementException("There is no previous one to go to!");
+            }
+            nextSlot = prev[nextSlot];
+            lastReturned = nextSlot;
+            nextIndex--;
+            return data[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void set(int value) {
+            if (lastReturned == NONE) {
+                throw new IllegalStateException("There is no current value to set");
+            }
+            checkForModification();
+            data[lastReturned] = value;
+        }
+
+        @Override
+        public void add(int value) {
+            checkForModification();
+            linkBefore(nextSlot, value);
+            lastReturned = NONE;
+            nextIndex++;
+            finger = NONE;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NONE) {
+                throw new IllegalStateException("There is no current value to remove");
+            }
+            checkForModification();
+            if (nextSlot == lastReturned) {
+                // removed after previousInt(), the cursor keeps its index
+                nextSlot = next[lastReturned];
+            } else {
+                // removed after nextInt(), the cursor moves back one index
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = NONE;
+            finger = NONE;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (nextSlot != SENTINEL) {
+                checkForModification();
+                lastReturned = nextSlot;
+                action.accept(data[nextSlot]);
+                nextSlot = next[nextSlot];
+                nextIndex++;
+            }
+        }
+
+        /**
+         * Helper method that throws if the list was changed
+         * other than through this iterator
+         */
+        private void checkForModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException(
+                        "IndexedLinkedIntList was modified outside this iterator");
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder list = new StringBuilder("IndexedLinkedIntList{Size: ")
+                .append(size).append(", list [");
+        for (int slot = next[SENTINEL]; slot != SENTINEL; slot = next[slot]) {
+            list.append(data[slot]);
+            if (next[slot] != SENTINEL) {
+                list.append(" -> ");
+            }
+        }
+        return list.append("]}").toString();
+    }
+}
@@ -0,0 +1,136 @@
+package lists;
+
+/**
+ * Static helpers that search a range of an int[] for a value.
+ *
+ * The searches run on the Vector API (jdk.incubator.vector) when
+ * VectorIntSearch, kept in src/vector, was built with the vector profile
+ * and the JVM is started with {@code --add-modules jdk.incubator.vector},
+ * comparing a whole vector of values per step. Without either, or with
+ * {@code -Dlists.vectorSearch=false}, they fall back to plain loops.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public final class IntSearch {
+
+    /**
+     * A way of searching an int[] range; implemented by a scalar
+     * loop here and by VectorIntSearch on the Vector API.
+     */
+    interface Searcher {
+        int indexOf(int[] values, int from, int to, int value);
+
+        int lastIndexOf(int[] values, int from, int to, int value);
+
+        int count(int[] values, int from, int to, int value);
+    }
+
+    private static final Searcher SEARCHER = chooseSearcher();
+
+    private IntSearch() {
+        // no instances
+    }
+
+    /**
+     * Returns true if searches run on the Vector API
+     * @return true if the vectorized searcher is in use
+     */
+    public static boolean isVectorized() {
+        return !(SEARCHER instanceof ScalarSearcher);
+    }
+
+    /**
+     * Returns the index of the first occurrence of value in
+     * values[from, to), or -1 if it does not occur there.
+     * @param values array to search
+     * @param from first index to search
+     * @param to one past the last index to search
+     * @param value value to search for
+     * @return the index of the first occurrence, or -1
+     */
+    public static int indexOf(int[] values, int from, int to, int value) {
+        return SEARCHER.indexOf(values, from, to, value);
+    }
+
+    /**
+     * Returns the index of the last occurrence of value in
+     * values[from, to), or -1 if it does not occur there.
+     * @param values array to search
+     * @param from first index to search
+     * @param to one past the last index to search
+     * @param value value to search for
+     * @return the index of the last occurrence, or -1
+     */
+    public static int lastIndexOf(int[] values, int from, int to, int value) {
+        return SEARCHER.lastIndexOf(values, from, to, value);
+    }
+
+    /**
+     * Returns how many times value occurs in values[from, to).
+     * @param values array to search
+     * @param from first index to search
+     * @param to one past the last index to search
+     * @param value value to count
+     * @return the number of occurrences
+     */
+    public static int count(int[] values, int from, int to, int value) {
+        return SEARCHER.count(values, from, to, value);
+    }
+
+    /**
+     * Helper method that uses the vectorized searcher only when the
+     * incubator module is resolved, loading it by name so this class
+     * never links against the module when it is absent
+     * @return the searcher to use
+     */
+    private static Searcher chooseSearcher() {
+        if (!Boolean.parseBoolean(System.getProperty("lists.vectorSearch", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarSearcher();
+        }
+        try {
+            return (Searcher) Class.forName("lists.VectorIntSearch")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarSearcher();
+        }
+    }
+
+    /**
+     * The plain loops, also used for the tails the vector loops leave
+     */
+    static final class ScalarSearcher implements Searcher {
+
+        @Override
+        public int indexOf(int[] values, int from, int to, int value) {
+            for (int i = from; i < to; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(int[] values, int from, int to, int value) {
+            for (int i = to - 1; i >= from; i--) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int count(int[] values, int from, int to, int value) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (values[i] == value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package lists;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
 
 import interfaces.IntList;
 
@@ -15,38 +17,71 @@ public class LinkedIntList implements IntList {
 
     // Fields
     private Node head;
+    private Node tail;
     private int size;
 
+    // the most recently reached node and its index, so that sequential or
+    // nearby positional access continues from there instead of from head;
+    // cursor is null when there is no usable position
+    private Node cursor;
+    private int cursorIndex;
+
+    // removed nodes kept for reuse, linked through next; at most
+    // poolCapacity of them are kept, 0 turns recycling off
+    private final int poolCapacity;
+    private Node pool;
+    private int pooled;
+    private long poolHits;
+    private long poolMisses;
+
     /**
      *  Constructor to initialize the fields of LinkedIntList
      */
     public LinkedIntList() {
+        this(0);
+    }
+
+    /**
+     * Constructor for a LinkedIntList that keeps up to poolCapacity
+     * removed nodes and reuses them for later insertions, so queue-like
+     * add/remove churn does not allocate
+     * @param poolCapacity most removed nodes to keep, 0 for none
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public LinkedIntList(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Pool capacity cannot be negative: " + poolCapacity);
+        }
         head = null;
+        tail = null;
         size = 0;
+        cursor = null;
+        this.poolCapacity = poolCapacity;
     }
 
     // Node Class
     private class Node {
-        private Integer data;
+        private int data;
         private Node next;
 
         /**
-         * Constuctor for Node that accepts on Integer data
+         * Constuctor for Node that accepts on int data
          * and sets the next to null
-         * @param data Integer value of Node
+         * @param data int value of Node
          */
-        private Node(Integer data) {
+        private Node(int data) {
             this.data = data;
             this.next = null;
         }
 
         /**
-         * Constuctor for Node that accepts on Integer data
+         * Constuctor for Node that accepts on int data
          * and sets the next to null
-         * @param data Integer Value of Node
+         * @param data int Value of Node
          * @param next Points to the next Node in list
          */
-        private Node(Integer data, Node next) {
+        private Node(int data, Node next) {
             this.data = data;
             this.next = next;
         }
@@ -66,35 +101,34 @@ public class LinkedIntList implements IntList {
     @Override
     public void addFront(int value) {
         // new Node to be added
-        Node addedToFront = new Node(value);
-        // the list currently has some nodes in it
-        if (head != null) {
-            addedToFront.next = head;
+        head = newNode(value, head);
+        // the list was empty, so the new node is also the last one
+        if (tail == null) {
+            tail = head;
         }
-        head = addedToFront;
+        // every node after the new one moved one index to the right
+        cursorIndex++;
         size++;
     }
 
     /**
      * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     * Runs in O(1) using the tail reference.
      *
      * @param value value to be inserted
      */
     @Override
     public void addBack(int value) {
 
-        Node addToBack = new Node(value);
+        Node addToBack = newNode(value, null);
 
         if (head == null) {
             head = addToBack;
         } else {
-            Node current = head;
-
-            while (current.next != null) {
-                current = current.next;
-            }
-            current.next = addToBack;
-        } size++;
+            tail.next = addToBack;
+        }
+        tail = addToBack;
+        size++;
     }
 
     /**
@@ -108,30 +142,78 @@ public class LinkedIntList implements IntList {
      */
     @Override
     public void add(int index, int value) {
-        int dex = 1;
         //if requested index is out of range throw exception
         if (index < 0 || index > (size )) {
             throw new IndexOutOfBoundsException(
                     "Index must be in the Range 0-" + (size));
-            //else find Node at index
+        }
+        //check if index is head
+        if (index == 0) {
+            addFront(value);
+        //check if index is at the end
+        } else if (index == (size)) {
+            addBack(value);
+        //link the new node after the one at index - 1
         } else {
-            //check if index is head
-            if (index == 0) {
-                addFront(value);
-                //check if index is at the end
-            } else if (index == (size)) {
-                addBack(value);
-                //remove everywhere else
-            } else {
-                Node current = head;
-                while (dex <= index - 1) {
-                    current = current.next;
-                    dex++;
-                }
-                current.next = new Node(value, current.next);
-                size++;
-            }
+            Node previous = nodeAt(index - 1);
+            previous.next = newNode(value, previous.next);
+            size++;
+        }
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. The new nodes are chained together first and
+     * then spliced into the list with a single walk.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        //if requested index is out of range throw exception
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (values.length == 0) {
+            return;
+        }
+
+        // build the new chain before touching the list
+        Node first = newNode(values[0], null);
+        Node last = first;
+        for (int i = 1; i < values.length; i++) {
+            last.next = newNode(values[i], null);
+            last = last.next;
+        }
+
+        //splice the chain in front of head
+        if (index == 0) {
+            last.next = head;
+            head = first;
+            cursorIndex += values.length;
+        //splice the chain after the Node at index - 1
+        } else {
+            Node previous = nodeAt(index - 1);
+            last.next = previous.next;
+            previous.next = first;
+        }
+        if (last.next == null) {
+            tail = last;
         }
+        size += values.length;
     }
 
     /**
@@ -142,11 +224,16 @@ public class LinkedIntList implements IntList {
     @Override
     public void removeFront() {
         if (head != null) {
-            if (head.next != null) {
-                head = head.next;
-            } else {
-                head = null;
+            if (cursor == head) {
+                cursor = null;
+            }
+            Node removed = head;
+            head = head.next;
+            if (head == null) {
+                tail = null;
             }
+            recycle(removed);
+            cursorIndex--;
             size--;
         }
     }
@@ -154,22 +241,21 @@ public class LinkedIntList implements IntList {
     /**
      * Removes the value located at the back of the list
      * (at index size()-1), if it is present.
+     * The node before the tail is found from the cursor when it is
+     * not past that node, and from head otherwise.
      */
     @Override
     public void removeBack() {
 
         if (head != null) {
-            Node current = head;
-
-            if (current.next != null) {
-                while (current.next.next != null) {
-                    current = current.next;
-                }
-                current.next = null;
-                size--;
+            if (head == tail) {
+                clear();
             } else {
-                head = null;
-                size = 0;
+                Node previous = nodeAt(size - 2);
+                recycle(previous.next);
+                previous.next = null;
+                tail = previous;
+                size--;
             }
         }
     }
@@ -185,36 +271,33 @@ public class LinkedIntList implements IntList {
      */
     @Override
     public int remove(int index) {
-        int dex = 1;
-        int removedValue = get(index);
-
         //if requested index is out of range throw exception
         if (index < 0 || index > (size - 1)) {
             throw new IndexOutOfBoundsException(
                     "Index must be in the Range 0-" + (size - 1));
-        //else find Node at index
-        } else {
-            //check if index is head
-            if (index == 0) {
-                removeFront();
-            //check if index is at the end
-            } else if (index == (size - 1)) {
-                removeBack();
-            //remove everywhere else
-            } else {
-                Node current = head;
-                while (dex <= index - 1) {
-                    current = current.next;
-                    dex++;
-                }
-                current.next = current.next.next;
-                size--;
-            } return removedValue;
         }
+        //check if index is head
+        if (index == 0) {
+            int removedValue = head.data;
+            removeFront();
+            return removedValue;
+        }
+        //unlink the node after the one at index - 1
+        Node previous = nodeAt(index - 1);
+        Node removed = previous.next;
+        previous.next = removed.next;
+        if (removed == tail) {
+            tail = previous;
+        }
+        size--;
+        int removedValue = removed.data;
+        recycle(removed);
+        return removedValue;
     }
 
     /**
      * Returns the value at the specified position in the list.
+     * Reading indices in increasing order walks each node once.
      *
      * @param index index of the value to return
      * @return the value at the specified position in this list
@@ -222,26 +305,41 @@ public class LinkedIntList implements IntList {
      */
     @Override
     public int get(int index) {
-        int dex = 1;
-
         //if requested index is out of range throw exception
         if (index < 0 || index > (size - 1)) {
             throw new IndexOutOfBoundsException(
                     "Index must be in the Range 0-" + (size - 1));
-        //else find Node at index
+        }
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Helper method that finds the Node at a valid index, starting from
+     * the cursor when it is at or before index and from head otherwise.
+     * The found node becomes the new cursor.
+     * @param index index of the node, between 0 and size - 1
+     * @return the Node at index
+     */
+    private Node nodeAt(int index) {
+        Node current;
+        int dex;
+        if (index == size - 1) {
+            current = tail;
+            dex = index;
+        } else if (cursor != null && cursorIndex <= index) {
+            current = cursor;
+            dex = cursorIndex;
         } else {
-            //head is always at index 0
-            if (index == 0) {
-                return head.data;
-            } else {
-                Node current = head;
-                while(dex <= index) {
-                    current = current.next;
-                    dex++;
-                }
-                return current.data;
-            }
+            current = head;
+            dex = 0;
+        }
+        while (dex < index) {
+            current = current.next;
+            dex++;
         }
+        cursor = current;
+        cursorIndex = index;
+        return current;
     }
 
     /**
@@ -252,20 +350,7 @@ public class LinkedIntList implements IntList {
      */
     @Override
     public boolean contains(int value) {
-
-        if (head != null) {
-            Node current = head;
-            if (current.data == value) {
-                return true;
-            } else {
-                while (current.next != null) {
-                    current = current.next;
-                    if (current.data == value) {
-                        return true;
-                    }
-                }
-            }
-        } return false;
+        return indexOf(value) >= 0;
     }
 
     /**
@@ -278,16 +363,14 @@ public class LinkedIntList implements IntList {
      */
     @Override
     public int indexOf(int value) {
-        if (!isEmpty()) {
-            Node current = head;
-            int index = 0;
-            if (contains(value)) {
-                while(current.data != value) {
-                    current = current.next;
-                    index++;
-                } return index;
+        int index = 0;
+        for (Node current = head; current != null; current = current.next) {
+            if (current.data == value) {
+                return index;
             }
-        } return -1;
+            index++;
+        }
+        return -1;
     }
 
     /**
@@ -316,24 +399,232 @@ public class LinkedIntList implements IntList {
      */
     @Override
     public void clear() {
+        // feed the pool from the front until it is full
+        Node current = head;
+        while (current != null && pooled < poolCapacity) {
+            Node next = current.next;
+            recycle(current);
+            current = next;
+        }
         head = null;
+        tail = null;
+        cursor = null;
         size = 0;
     }
 
     /**
-     * Returns an iterator over elements of type {@code T}.
+     * Moves all the values of other to the back of this list by linking
+     * its nodes after the tail, leaving other empty. No node is copied,
+     * so this runs in O(1) whatever the sizes.
      *
-     * @return an Iterator.
+     * @param other list whose nodes are moved
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void appendAll(LinkedIntList other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if (other.size == 0) {
+            return;
+        }
+        if (size == 0) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+        tail = other.tail;
+        size += other.size;
+        other.detach();
+    }
+
+    /**
+     * Moves all the values of this list to the back of target, leaving
+     * this list empty. A LinkedIntList target takes the nodes in O(1)
+     * through appendAll(); any other IntList gets the values in one
+     * addAll().
+     *
+     * @param target list the values are moved to
+     * @throws IllegalArgumentException if target is this list
+     */
+    public void transferAllTo(IntList target) {
+        if (target == this) {
+            throw new IllegalArgumentException("Cannot transfer a list to itself");
+        }
+        if (target instanceof LinkedIntList) {
+            ((LinkedIntList) target).appendAll(this);
+        } else {
+            target.addAll(toArray());
+            clear();
+        }
+    }
+
+    /**
+     * Moves the values from index on into a new list and returns it,
+     * leaving the values before index in this list. The walk to index
+     * is the same as get(index - 1), then the list is cut there without
+     * copying any node.
+     *
+     * @param index index of the first value to move
+     * @return a new list holding the values from index on
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public LinkedIntList splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        LinkedIntList rest = new LinkedIntList(poolCapacity);
+        if (index == size) {
+            return rest;
+        }
+        rest.tail = tail;
+        rest.size = size - index;
+        if (index == 0) {
+            rest.head = head;
+            detach();
+        } else {
+            // nodeAt leaves the cursor on last, which stays in this list
+            Node last = nodeAt(index - 1);
+            rest.head = last.next;
+            last.next = null;
+            tail = last;
+            size = index;
+        }
+        return rest;
+    }
+
+    /**
+     * Helper method that empties the list without recycling its nodes,
+     * after they were moved to another list
+     */
+    private void detach() {
+        head = null;
+        tail = null;
+        cursor = null;
+        size = 0;
+    }
+
+    /**
+     * Returns how many node allocations were avoided by reusing
+     * a recycled node.
+     *
+     * @return the number of insertions served from the node pool
+     */
+    public long poolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Returns how many insertions had to allocate a new node because
+     * the node pool was empty.
+     *
+     * @return the number of insertions that missed the node pool
+     */
+    public long poolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * Returns the number of removed nodes currently kept for reuse.
+     *
+     * @return the number of nodes in the pool
+     */
+    public int pooledNodes() {
+        return pooled;
+    }
+
+    /**
+     * Helper method that takes a node from the pool, or allocates
+     * one when the pool is empty
+     * @param value value of the node
+     * @param next node to link after it
+     * @return a node holding value and linked to next
+     */
+    private Node newNode(int value, Node next) {
+        Node node = pool;
+        if (node == null) {
+            poolMisses++;
+            return new Node(value, next);
+        }
+        poolHits++;
+        pool = node.next;
+        pooled--;
+        node.data = value;
+        node.next = next;
+        return node;
+    }
+
+    /**
+     * Helper method that keeps a node that has been unlinked from the
+     * list for reuse, unless the pool is full
+     * @param node the removed node, which must not be reachable any more
+     */
+    private void recycle(Node node) {
+        if (pooled < poolCapacity) {
+            node.next = pool;
+            pool = node;
+            pooled++;
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     *
+     * @return a PrimitiveIterator.OfInt.
      */
     @Override
-    public Iterator<Integer> iterator() {
+    public PrimitiveIterator.OfInt intIterator() {
         return new SinglyLinkedIterator();
     }
 
+    /**
+     * Performs the given action on each value in this list,
+     * walking the nodes directly.
+     *
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (Node current = head; current != null; current = current.next) {
+            action.accept(current.data);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list that splits
+     * by copying batches of nodes into arrays.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new NodeSpliterator(head, size);
+    }
+
+    /**
+     * helper class/type that feeds BatchSpliterator the values node by node
+     */
+    private class NodeSpliterator extends BatchSpliterator {
+
+        private Node current;
+
+        private NodeSpliterator(Node current, int remaining) {
+            super(remaining);
+            this.current = current;
+        }
+
+        @Override
+        int nextValue() {
+            int value = current.data;
+            current = current.next;
+            return value;
+        }
+    }
+
     /**
      * helper class/type that defines how the iterator works
      */
-    private class SinglyLinkedIterator implements Iterator<Integer> {
+    private class SinglyLinkedIterator implements PrimitiveIterator.OfInt {
 
         private Node current;
 
@@ -360,7 +651,7 @@ public class LinkedIntList implements IntList {
          * @throws NoSuchElementException if the iteration has no more elements
          */
         @Override
-        public Integer next() {
+        public int nextInt() {
             if (current == null) {
                 throw new NoSuchElementException("There is no next one to go to!");
             }
@@ -0,0 +1,419 @@
+package lists;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+
+import interfaces.IntList;
+
+/**
+ * Bounded first-in first-out queue of ints that any number of threads can
+ * offer to and poll from at once without locks.
+ *
+ * The values live in an int[] ring whose length is a power of two. Each
+ * slot has a sequence number that says whose turn it is: a producer may
+ * fill slot i when its sequence is the producer's ticket, a consumer may
+ * empty it when its sequence is the ticket + 1. Producers and consumers
+ * take tickets by a compare-and-set on tail and head, so threads only
+ * contend on the counter at their end, never on a lock, and no memory is
+ * allocated per value. drainTo() claims a run of ready slots with a single
+ * compare-and-set.
+ *
+ * asIntList() adapts the queue to the addBack/removeFront half of IntList.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class MpmcIntQueue {
+
+    /**
+     * Capacity a new MpmcIntQueue starts with
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 10;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle SEQUENCE =
+            MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MpmcIntQueue.class, "head", long.class);
+            TAIL = lookup.findVarHandle(MpmcIntQueue.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // fields:
+    private final int[] buffer;
+    private final long[] sequences;
+    private final int mask;
+    // ticket of the next value to poll
+    private volatile long head;
+    // ticket of the next value to offer
+    private volatile long tail;
+
+    /**
+     * Constructor for MpmcIntQueue creates a new MpmcIntQueue
+     * that holds up to 1024 values
+     */
+    public MpmcIntQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for MpmcIntQueue creates a new MpmcIntQueue that holds
+     * at least the specified number of values, rounded up to a power of two
+     * @param capacity the smallest number of values the queue must hold
+     * @throws IllegalArgumentException if capacity is not positive or
+     * above 2^30
+     */
+    public MpmcIntQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "Capacity must be in the Range 1-" + (1 << 30) + ": " + capacity);
+        }
+        int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = new int[length];
+        sequences = new long[length];
+        mask = length - 1;
+        for (int i = 0; i < length; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * Appends the specified value at the tail of the queue if there is room.
+     *
+     * @param value value to be inserted
+     * @return true if the value was added, false if the queue was full
+     */
+    public boolean offer(int value) {
+        long ticket = tail;
+        while (true) {
+            int slot = (int) ticket & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, slot) - ticket;
+            if (difference == 0) {
+                if (TAIL.compareAndSet(this, ticket, ticket + 1)) {
+                    buffer[slot] = value;
+                    SEQUENCE.setRelease(sequences, slot, ticket + 1);
+                    return true;
+                }
+                ticket = tail;
+            } else if (difference < 0) {
+                // the slot still holds the value from one lap ago
+                return false;
+            } else {
+                // another producer took this ticket
+                ticket = tail;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the value at the head of the queue, if there is one.
+     *
+     * @return the value at the head, or an empty OptionalInt if the queue was empty
+     */
+    public OptionalInt poll() {
+        long ticket = claim();
+        return ticket < 0 ? OptionalInt.empty() : OptionalInt.of(take(ticket));
+    }
+
+    /**
+     * Removes and returns the value at the head of the queue, or the
+     * specified value if the queue is empty. Unlike poll() it never
+     * allocates, for when some int can never be a real value.
+     *
+     * @param emptyValue value to return if the queue is empty
+     * @return the value at the head, or emptyValue if the queue was empty
+     */
+    public int poll(int emptyValue) {
+        long ticket = claim();
+        return ticket < 0 ? emptyValue : take(ticket);
+    }
+
+    /**
+     * Removes values from the head of the queue into the specified array,
+     * as many as are ready and fit. The values are claimed together, so
+     * they are consecutive in queue order.
+     *
+     * @param values array to fill from index 0
+     * @return the number of values removed
+     */
+    public int drainTo(int[] values) {
+        return drainTo(values, 0, values.length);
+    }
+
+    /**
+     * Removes up to length values from the head of the queue into the
+     * specified array, starting at offset. The values are claimed
+     * together, so they are consecutive in queue order.
+     *
+     * @param values array to fill
+     * @param offset index in values of the first value removed
+     * @param length the most values to remove
+     * @return the number of values removed
+     * @throws IndexOutOfBoundsException if offset and length do not fit values
+     */
+    public int drainTo(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length
+                            + ") is out of bounds for length " + values.length);
+        }
+        int most = Math.min(length, buffer.length);
+        long ticket;
+        int count;
+        do {
+            ticket = head;
+            count = 0;
+            // count the ready values, then claim them all at once
+            while (count < most
+                    && (long) SEQUENCE.getAcquire(sequences, (int) (ticket + count) & mask)
+                    == ticket + count + 1) {
+                count++;
+            }
+            if (count == 0 && ticket == head) {
+                return 0;
+            }
+        } while (count == 0 || !HEAD.compareAndSet(this, ticket, ticket + count));
+        for (int i = 0; i < count; i++) {
+            values[offset + i] = take(ticket + i);
+        }
+        return count;
+    }
+
+    /**
+     * Helper method that takes the ticket of the value at the head
+     * @return the ticket taken, or -1 if the queue was empty
+     */
+    private long claim() {
+        long ticket = head;
+        while (true) {
+            int slot = (int) ticket & mask;
+            long difference = (long) SEQUENCE.getAcquire(sequences, slot) - (ticket + 1);
+            if (difference == 0) {
+                if (HEAD.compareAndSet(this, ticket, ticket + 1)) {
+                    return ticket;
+                }
+                ticket = head;
+            } else if (difference < 0) {
+                // no producer has filled this slot yet
+                return -1;
+            } else {
+                // another consumer took this ticket
+                ticket = head;
+            }
+        }
+    }
+
+    /**
+     * Helper method that reads the value of a claimed ticket and hands
+     * its slot to the producer one lap later
+     */
+    private int take(long ticket) {
+        int slot = (int) ticket & mask;
+        int value = buffer[slot];
+        SEQUENCE.setRelease(sequences, slot, ticket + buffer.length);
+        return value;
+    }
+
+    /**
+     * Returns the value at the head of the queue without removing it.
+     * By the time it returns, another consumer may have removed it.
+     *
+     * @return the value at the head, or an empty OptionalInt if the queue was empty
+     */
+    public OptionalInt peek() {
+        while (true) {
+            long ticket = head;
+            int slot = (int) ticket & mask;
+            if ((long) SEQUENCE.getAcquire(sequences, slot) != ticket + 1) {
+                if (ticket == head) {
+                    return OptionalInt.empty();
+                }
+                continue;
+            }
+            int value = buffer[slot];
+            // the value only counts if no consumer took the slot meanwhile
+            VarHandle.acquireFence();
+            if ((long) SEQUENCE.getAcquire(sequences, slot) == ticket + 1) {
+                return OptionalInt.of(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the queue. With other threads
+     * offering and polling, this is only an estimate.
+     * @return the number of values in the queue
+     */
+    public int size() {
+        while (true) {
+            long before = head;
+            long end = tail;
+            if (before == head) {
+                return (int) Math.max(0, Math.min(end - before, buffer.length));
+            }
+        }
+    }
+
+    /**
+     * Returns true if the queue holds no values. With other threads
+     * offering and polling, this is only an estimate.
+     * @return true if the queue holds no values
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the most values the queue can hold
+     * @return the length of the ring
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Removes all the values in the queue when the call starts. Values
+     * offered meanwhile may or may not be removed.
+     */
+    public void clear() {
+        int[] scratch = new int[Math.min(buffer.length, 256)];
+        while (drainTo(scratch) > 0) {
+            // values dropped
+        }
+    }
+
+    /**
+     * Returns a view of this queue as the addBack/removeFront half of an
+     * IntList, for code written against IntList that uses it as a queue.
+     *
+     * addBack offers and throws IllegalStateException if the queue is full,
+     * removeFront polls and discards, and get(0) peeks. size, isEmpty,
+     * clear and addAll(int[]) also work; all other methods throw
+     * UnsupportedOperationException. get(0) followed by removeFront()
+     * is only the same value when there is a single consumer.
+     *
+     * @return an IntList view of this queue
+     */
+    public IntList asIntList() {
+        return new QueueView();
+    }
+
+    @Override
+    public String toString() {
+        return "MpmcIntQueue{" +
+                "size=" + size() +
+                ", capacity=" + buffer.length +
+                '}';
+    }
+
+    /**
+     * The addBack/removeFront half of IntList over the queue
+     */
+    private final class QueueView implements IntList {
+
+        private UnsupportedOperationException unsupported() {
+            return new UnsupportedOperationException(
+                    "A queue view only supports addBack, removeFront, get(0), size and clear");
+        }
+
+        @Override
+        public void addFront(int value) {
+            throw unsupported();
+        }
+
+        @Override
+        public void addBack(int value) {
+            if (!offer(value)) {
+                throw new IllegalStateException("Queue is full: " + buffer.length);
+            }
+        }
+
+        @Override
+        public void add(int index, int value) {
+            throw unsupported();
+        }
+
+        @Override
+        public void insertAll(int index, int[] values) {
+            throw unsupported();
+        }
+
+        @Override
+        public void removeFront() {
+            long ticket = claim();
+            if (ticket >= 0) {
+                take(ticket);
+            }
+        }
+
+        @Override
+        public void removeBack() {
+            throw unsupported();
+        }
+
+        @Override
+        public int remove(int index) {
+            throw unsupported();
+        }
+
+        @Override
+        public int get(int index) {
+            if (index != 0) {
+                throw unsupported();
+            }
+            OptionalInt front = peek();
+            if (front.isEmpty()) {
+                throw new IndexOutOfBoundsException("Index must be in the Range 0--1");
+            }
+            return front.getAsInt();
+        }
+
+        @Override
+        public boolean contains(int value) {
+            throw unsupported();
+        }
+
+        @Override
+        public int indexOf(int value) {
+            throw unsupported();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return MpmcIntQueue.this.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return MpmcIntQueue.this.size();
+        }
+
+        @Override
+        public void clear() {
+            MpmcIntQueue.this.clear();
+        }
+
+        @Override
+        public int[] toArray() {
+            throw unsupported();
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt intIterator() {
+            throw unsupported();
+        }
+
+        @Override
+        public String toString() {
+            return MpmcIntQueue.this.toString();
+        }
+    }
+}
@@ -0,0 +1,615 @@
+package lists;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Class that stores its ints outside the Java heap in a direct
+ * ByteBuffer, so the garbage collector never scans or copies them.
+ * Behaves like ArrayIntList: the buffer doubles when full and values
+ * are shifted with bulk copies.
+ *
+ * The memory is released as soon as close() is called, or when the list
+ * is garbage collected if it never is. A closed list throws
+ * IllegalStateException from every method except close() and isClosed().
+ * A list holds at most MAX_CAPACITY values, the limit of a ByteBuffer.
+ *
+ * Spliterators bind to the buffer on first use and re-read it on every
+ * advance, so growing or closing the list never leaves them reading freed
+ * memory; they throw ConcurrentModificationException instead.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class OffHeapIntList implements IntList, AutoCloseable {
+
+    /**
+     * The largest number of values a list can hold
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+    // frees a direct buffer right away, or null if the JDK does not allow it
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    // fields:
+    private int size;
+    private ByteBuffer memory;
+    private IntBuffer buffer;   // int view of memory
+
+    // counts structural changes, reallocations and close() so that
+    // spliterators and forEachInt notice the buffer may be gone
+    private int modCount;
+
+    /**
+     * Constructor for OffHeapIntList creates a new
+     * OffHeapIntList with a buffer of 10
+     */
+    public OffHeapIntList() {
+        this(ArrayIntList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for OffHeapIntList creates a new OffHeapIntList
+     * with a buffer of the specified capacity
+     * @param initialCapacity number of values the starting buffer holds
+     * @throws IllegalArgumentException if initialCapacity is negative
+     * or greater than MAX_CAPACITY
+     */
+    public OffHeapIntList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Capacity must be in the Range 0-" + MAX_CAPACITY
+                            + ": " + initialCapacity);
+        }
+        size = 0;
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        ensureCapacity(size + 1);
+        buffer.put(size, value);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Specified Index Must Be " +
+                    "In the Range of 0-" + size);
+        }
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        buffer.put(index, value);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. Shifts the value currently at that position
+     * (if any) and any subsequent values to the right, once.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Specified Index Must Be " +
+                    "In the Range of 0-" + size);
+        }
+        int count = values.length;
+        ensureCapacity(size + count);
+        move(index, index + count, size - index);
+        buffer.put(index, values, 0, count);
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (!isEmpty()) {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (!isEmpty()) {
+            size--;
+            modCount++;
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        int removedValue = get(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Specified Index Must Be " +
+                    "In the Range of 0-" + (size - 1));
+        }
+        return buffer.get(index);
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        checkOpen();
+        IntBuffer data = buffer;
+        int length = size;
+        for (int i = 0; i < length; i++) {
+            if (data.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     * The off-heap buffer is kept so that refilling the list does not allocate.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a new on-heap array containing all the values in this list,
+     * in order from front to back.
+     *
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        checkOpen();
+        int[] values = new int[size];
+        buffer.get(0, values, 0, size);
+        return values;
+    }
+
+    /**
+     * Grows the buffer, if needed, so that it can hold at least
+     * minCapacity values without reallocating.
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws IllegalStateException if minCapacity is greater than MAX_CAPACITY
+     */
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException(
+                    "OffHeapIntList cannot hold more than " + MAX_CAPACITY + " values");
+        }
+        if (minCapacity > buffer.capacity()) {
+            int newCapacity = (int) Math.min((long) buffer.capacity() << 1, MAX_CAPACITY);
+            reallocate(Math.max(newCapacity, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the off-heap buffer to exactly the number of values in the list.
+     */
+    public void trimToSize() {
+        checkOpen();
+        if (size < buffer.capacity()) {
+            reallocate(size);
+        }
+    }
+
+    /**
+     * Returns the number of values the list can hold before
+     * the buffer has to grow.
+     *
+     * @return the capacity of the off-heap buffer
+     */
+    public int capacity() {
+        checkOpen();
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns true once close() has been called.
+     *
+     * @return true if the list is closed
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /**
+     * Releases the off-heap memory of this list. Calling close()
+     * again has no effect.
+     */
+    @Override
+    public void close() {
+        if (!isClosed()) {
+            release(memory);
+            memory = null;
+            buffer = null;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    /**
+     * Helper method that allocates a new, empty off-heap buffer
+     * @param capacity number of values the buffer holds
+     */
+    private void allocate(int capacity) {
+        memory = ByteBuffer.allocateDirect(capacity * Integer.BYTES)
+                .order(ByteOrder.nativeOrder());
+        buffer = memory.asIntBuffer();
+    }
+
+    /**
+     * Helper method that moves the values into a new off-heap buffer
+     * and releases the old one right away
+     * @param newCapacity number of values the new buffer holds
+     */
+    private void reallocate(int newCapacity) {
+        ByteBuffer oldMemory = memory;
+        IntBuffer oldBuffer = buffer;
+        allocate(newCapacity);
+        buffer.put(0, oldBuffer, 0, size);
+        modCount++;
+        release(oldMemory);
+    }
+
+    /**
+     * Helper method that copies count values from index from to
+     * index to within the buffer; the ranges may overlap
+     * @param from first index to read
+     * @param to first index to write
+     * @param count number of values to copy
+     */
+    private void move(int from, int to, int count) {
+        if (count > 0) {
+            buffer.put(to, buffer.duplicate(), from, count);
+        }
+    }
+
+    /**
+     * Helper method that throws if the list has been closed
+     */
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("OffHeapIntList is closed");
+        }
+    }
+
+    /**
+     * Helper method that throws if the list was changed since
+     * a traversal read expectedModCount
+     * @param expectedModCount modCount when the traversal started
+     */
+    private void checkForModification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException(
+                    "OffHeapIntList was modified during traversal");
+        }
+    }
+
+    /**
+     * Helper method that frees a direct buffer now if the JDK allows it;
+     * otherwise the memory is freed when the buffer is garbage collected
+     * @param direct buffer to free
+     */
+    private static void release(ByteBuffer direct) {
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invokeExact(direct);
+            } catch (Throwable e) {
+                // leave the buffer to the garbage collector
+            }
+        }
+    }
+
+    /**
+     * Helper method that looks up sun.misc.Unsafe.invokeCleaner, the
+     * JDK's way to free a direct buffer before it is garbage collected
+     * @return a handle taking the buffer to free, or null if unavailable
+     */
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner",
+                            MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     *
+     * @return a PrimitiveIterator.OfInt.
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        checkOpen();
+        return new OffHeapIterator();
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * reading the off-heap buffer directly.
+     *
+     * @param action the action to be performed on each value
+     * @throws ConcurrentModificationException if the action changes the list
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        checkOpen();
+        int expectedModCount = modCount;
+        int length = size;
+        for (int i = 0; i < length; i++) {
+            checkForModification(expectedModCount);
+            action.accept(buffer.get(i));
+        }
+    }
+
+    /**
+     * Returns a late-binding spliterator over the values in this list
+     * that splits by halving the index range.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        checkOpen();
+        return new OffHeapSpliterator(0, -1, 0);
+    }
+
+    //create a private helper Spliterator class
+    private class OffHeapSpliterator implements Spliterator.OfInt {
+
+        // private fields:
+        private int index;
+        private int fence;              // -1 until first use, then one past the last index
+        private int expectedModCount;   // set when fence is
+
+        private OffHeapSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Helper method that binds to the list's current size on first use
+         * @return one past the last index this spliterator covers
+         */
+        private int getFence() {
+            if (fence < 0) {
+                checkOpen();
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int hi = getFence();
+            int mid = (index + hi) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            OffHeapSpliterator prefix = new OffHeapSpliterator(index, mid, expectedModCount);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= getFence()) {
+                return false;
+            }
+            checkOpen();
+            checkForModification(expectedModCount);
+            action.accept(buffer.get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int hi = getFence();
+            while (index < hi) {
+                checkOpen();
+                checkForModification(expectedModCount);
+                action.accept(buffer.get(index++));
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    //create a private helper Iterator class
+    private class OffHeapIterator implements PrimitiveIterator.OfInt {
+
+        // private fields:
+        private int index;
+
+        private OffHeapIterator() {
+            index = 0;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (index >= size) {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            checkOpen();
+            return buffer.get(index++);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isClosed()) {
+            return "OffHeapIntList{closed}";
+        }
+        return "OffHeapIntList{" +
+                "size=" + size +
+                ", buffer=" + Arrays.toString(toArray()) +
+                '}';
+    }
+}
@@ -0,0 +1,551 @@
+package lists;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Creates an indexable skip list and implements methods in IntList.
+ *
+ * Every node is on level 0, the plain linked list, and on each higher
+ * level with the configured probability, so a level i link skips about
+ * (1 / probability)^i nodes. Each link also records its width, the number
+ * of level 0 steps it covers, so get, add and remove find a position by
+ * adding up widths from the top level down in expected O(log n), and
+ * then splice the node in or out by relinking.
+ *
+ * Node levels come from a Random with a fixed seed, so the same
+ * sequence of operations always builds the same list.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class SkipIntList implements IntList {
+
+    /**
+     * Chance that a node on one level is also on the next, unless the
+     * constructor is told otherwise
+     */
+    public static final double DEFAULT_PROBABILITY = 0.25;
+
+    /**
+     * Seed for the node levels unless the constructor is told otherwise
+     */
+    public static final long DEFAULT_SEED = 42;
+
+    // most levels a node can have
+    private static final int MAX_LEVEL = 32;
+
+    // Fields
+    private final Node head;    // sentinel at position -1, on every level
+    private int level;          // number of levels in use, at least 1
+    private int size;
+    private final double probability;
+    private final Random random;
+
+    // scratch space for searches: the last node before the target on each
+    // level and its position
+    private final Node[] update = new Node[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /**
+     * Constructor for SkipIntList with the default probability and seed
+     */
+    public SkipIntList() {
+        this(DEFAULT_PROBABILITY, DEFAULT_SEED);
+    }
+
+    /**
+     * Constructor for SkipIntList with the given level probability and seed.
+     * A lower probability makes fewer, shorter towers, which use less
+     * memory but take more steps per level.
+     * @param probability chance that a node is promoted to the next level
+     * @param seed seed for the Random that picks node levels
+     * @throws IllegalArgumentException if probability is not between 0 and 1
+     */
+    public SkipIntList(double probability, long seed) {
+        if (!(probability > 0 && probability < 1)) {
+            throw new IllegalArgumentException(
+                    "Probability must be between 0 and 1: " + probability);
+        }
+        this.probability = probability;
+        random = new Random(seed);
+        head = new Node(0, MAX_LEVEL);
+        clear();
+    }
+
+    /**
+     * A node and its links. width[i] is the number of positions from this
+     * node to next[i], or to the end of the list (position size) when
+     * next[i] is null.
+     */
+    private static final class Node {
+        int data;
+        final Node[] next;
+        final int[] width;
+
+        Node(int data, int levels) {
+            this.data = data;
+            next = new Node[levels];
+            width = new int[levels];
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        add(size, value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list
+     * in expected O(log n).
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        findBefore(index);
+        linkAt(index, value);
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. The position is searched for once and each
+     * new node becomes the predecessor of the next, so the cost is
+     * O(log n + values.length).
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        findBefore(index);
+        for (int value : values) {
+            linkAt(index++, value);
+        }
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     */
+    @Override
+    public void removeFront() {
+        if (size > 0) {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (size > 0) {
+            remove(size - 1);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list
+     * in expected O(log n).
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        findBefore(index);
+        Node target = update[0].next[0];
+        for (int lvl = 0; lvl < level; lvl++) {
+            Node before = update[lvl];
+            if (before.next[lvl] == target) {
+                // the link over target now also covers target's own link
+                before.width[lvl] += target.width[lvl] - 1;
+                before.next[lvl] = target.next[lvl];
+            } else {
+                before.width[lvl]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return target.data;
+    }
+
+    /**
+     * Returns the value at the specified position in the list
+     * in expected O(log n).
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        return nodeAt(index).data;
+    }
+
+    /**
+     * Helper method that finds the node at a valid index without
+     * touching the search scratch space
+     * @param index index of the node, between 0 and size - 1
+     * @return the node at index
+     */
+    private Node nodeAt(int index) {
+        Node x = head;
+        int position = -1;
+        for (int lvl = level - 1; lvl >= 0; lvl--) {
+            while (x.next[lvl] != null && position + x.width[lvl] <= index) {
+                position += x.width[lvl];
+                x = x.next[lvl];
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Helper method that fills update and rank with the last node before
+     * index on each level in use, and its position
+     * @param index position to search for, between 0 and size
+     */
+    private void findBefore(int index) {
+        Node x = head;
+        int position = -1;
+        for (int lvl = level - 1; lvl >= 0; lvl--) {
+            while (x.next[lvl] != null && position + x.width[lvl] < index) {
+                position += x.width[lvl];
+                x = x.next[lvl];
+            }
+            update[lvl] = x;
+            rank[lvl] = position;
+        }
+    }
+
+    /**
+     * Helper method that links a new node in at index, after findBefore
+     * or a previous call for index - 1, and leaves update and rank set
+     * for inserting at index + 1
+     * @param index position of the new node
+     * @param value value of the new node
+     */
+    private void linkAt(int index, int value) {
+        int levels = randomLevel();
+        if (levels > level) {
+            // new levels start out as one link from head to the end
+            for (int lvl = level; lvl < levels; lvl++) {
+                update[lvl] = head;
+                rank[lvl] = -1;
+                head.next[lvl] = null;
+                head.width[lvl] = size + 1;
+            }
+            level = levels;
+        }
+        Node node = new Node(value, levels);
+        for (int lvl = 0; lvl < levels; lvl++) {
+            Node before = update[lvl];
+            // before's link ended at rank + width, one further on after the insert
+            node.width[lvl] = rank[lvl] + before.width[lvl] + 1 - index;
+            node.next[lvl] = before.next[lvl];
+            before.width[lvl] = index - rank[lvl];
+            before.next[lvl] = node;
+            update[lvl] = node;
+            rank[lvl] = index;
+        }
+        for (int lvl = levels; lvl < level; lvl++) {
+            update[lvl].width[lvl]++;
+        }
+        size++;
+    }
+
+    /**
+     * Helper method that picks the number of levels for a new node
+     * @return a level count between 1 and MAX_LEVEL
+     */
+    private int randomLevel() {
+        int levels = 1;
+        while (levels < MAX_LEVEL && random.nextDouble() < probability) {
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int dex = 0;
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            if (current.data == value) {
+                return dex;
+            }
+            dex++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        head.next[0] = null;
+        head.width[0] = 1;
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size];
+        Node current = head.next[0];
+        for (int i = 0; i < size; i++) {
+            values[i] = current.data;
+            current = current.next[0];
+        }
+        return values;
+    }
+
+    /**
+     * Returns the number of levels in use, which grows with the
+     * logarithm of the size.
+     * @return the number of levels, at least 1
+     */
+    public int levels() {
+        return level;
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new SkipIterator();
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * walking level 0.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            action.accept(current.data);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. A split finds
+     * the node at the middle of its range through the upper levels, so
+     * it costs expected O(log n) and copies nothing.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new SkipSpliterator(size == 0 ? null : head.next[0], 0, size);
+    }
+
+    /**
+     * helper class/type that covers the nodes from index to fence
+     */
+    private class SkipSpliterator implements Spliterator.OfInt {
+
+        private Node current;       // node at index
+        private int index;
+        private final int fence;    // one past the last index to visit
+
+        private SkipSpliterator(Node current, int index, int fence) {
+            this.current = current;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            SkipSpliterator prefix = new SkipSpliterator(current, index, mid);
+            current = nodeAt(mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(current.data);
+            current = current.next[0];
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Node node = current;
+            for (int i = index; i < fence; i++) {
+                action.accept(node.data);
+                node = node.next[0];
+            }
+            current = node;
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * helper class/type that defines how the iterator works
+     */
+    private class SkipIterator implements PrimitiveIterator.OfInt {
+
+        private Node current;
+
+        private SkipIterator() {
+            current = head.next[0];
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (current == null) {
+                throw new NoSuchElementException("There is no next one to go to!");
+            }
+            int value = current.data;
+            current = current.next[0];
+            return value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder list = new StringBuilder("SkipIntList{Size: ")
+                .append(size).append(", list [");
+        for (Node current = head.next[0]; current != null; current = current.next[0]) {
+            list.append(current.data);
+            if (current.next[0] != null) {
+                list.append(" -> ");
+            }
+        }
+        return list.append("]}").toString();
+    }
+}
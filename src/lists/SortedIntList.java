@@ -0,0 +1,499 @@
+package lists;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Class that keeps its ints in ascending order in an int[] buffer,
+ * so lookups use binary search instead of a linear scan.
+ * insert() places a value at its sorted position; the positional
+ * IntList methods are accepted only when they keep the list sorted
+ * and throw IllegalArgumentException otherwise.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class SortedIntList implements IntList {
+
+    // fields:
+    private int size;
+    private int[] buffer;
+
+    /**
+     * Constructor for SortedIntList creates a new
+     * SortedIntList with a buffer of 10
+     */
+    public SortedIntList() {
+        size = 0;
+        buffer = new int[10];
+    }
+
+    /**
+     * Inserts the specified value at its sorted position, after any
+     * values equal to it.
+     *
+     * @param value value to be inserted
+     * @return the index the value was inserted at
+     */
+    public int insert(int value) {
+        int index = upperBound(value);
+        insertAt(index, value);
+        return index;
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     * @throws IllegalArgumentException if value is greater than the current first value
+     */
+    @Override
+    public void addFront(int value) {
+        add(0, value);
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     * @throws IllegalArgumentException if value is less than the current last value
+     */
+    @Override
+    public void addBack(int value) {
+        add(size, value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the value does not belong at index
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Specified Index Must Be " +
+                    "In the Range of 0-" + size);
+        }
+        if ((index > 0 && buffer[index - 1] > value)
+                || (index < size && buffer[index] < value)) {
+            throw new IllegalArgumentException("Adding " + value
+                    + " at index " + index + " would break ascending order");
+        }
+        insertAt(index, value);
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     * @throws IllegalArgumentException if the values would break ascending order
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. The list is left unchanged if the values would
+     * break ascending order.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the values would break ascending order
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Specified Index Must Be " +
+                    "In the Range of 0-" + size);
+        }
+        int count = values.length;
+        if (count == 0) {
+            return;
+        }
+        checkSorted(values);
+        if ((index > 0 && buffer[index - 1] > values[0])
+                || (index < size && buffer[index] < values[count - 1])) {
+            throw new IllegalArgumentException("Adding the values at index "
+                    + index + " would break ascending order");
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(buffer, index, buffer, index + count, size - index);
+        System.arraycopy(values, 0, buffer, index, count);
+        size += count;
+    }
+
+    /**
+     * Merges the specified ascending values into this list in a single
+     * linear pass, working from the back of the buffer so no temporary
+     * array is needed.
+     *
+     * @param sortedValues values in ascending order
+     * @throws IllegalArgumentException if sortedValues is not in ascending order
+     */
+    public void addAllSorted(int[] sortedValues) {
+        checkSorted(sortedValues);
+        int count = sortedValues.length;
+        ensureCapacity(size + count);
+
+        // fill the buffer from its new end with the larger of the two tails
+        int mine = size - 1;
+        int theirs = count - 1;
+        int write = size + count - 1;
+        while (theirs >= 0) {
+            if (mine >= 0 && buffer[mine] > sortedValues[theirs]) {
+                buffer[write--] = buffer[mine--];
+            } else {
+                buffer[write--] = sortedValues[theirs--];
+            }
+        }
+        size += count;
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (!isEmpty()) {
+            remove(0);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (!isEmpty()) {
+            size--;
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        int removedValue = get(index);
+        System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Specified Index Must Be " +
+                    "In the Range of 0-" + (size - 1));
+        }
+        return buffer[index];
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     * Runs in O(log n).
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Runs in O(log n).
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int index = lowerBound(value);
+        return index < size && buffer[index] == value ? index : -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Runs in O(log n).
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        int index = upperBound(value) - 1;
+        return index >= 0 && buffer[index] == value ? index : -1;
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     * Runs in O(log n).
+     *
+     * @param value value to count
+     * @return the number of occurrences of the specified value in this list
+     */
+    @Override
+    public int count(int value) {
+        return upperBound(value) - lowerBound(value);
+    }
+
+    /**
+     * Returns the index of the first value that is greater than or equal
+     * to the specified value, or size() if there is none.
+     *
+     * @param value value to search for
+     * @return the first index whose value is not less than value
+     */
+    public int lowerBound(int value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value that is strictly greater
+     * than the specified value, or size() if there is none.
+     *
+     * @param value value to search for
+     * @return the first index whose value is greater than value
+     */
+    public int upperBound(int value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns how many values v in this list satisfy
+     * fromInclusive &lt;= v &lt; toExclusive.
+     *
+     * @param fromInclusive low end of the range
+     * @param toExclusive high end of the range
+     * @return the number of values in the range
+     */
+    public int rangeCount(int fromInclusive, int toExclusive) {
+        if (toExclusive <= fromInclusive) {
+            return 0;
+        }
+        return lowerBound(toExclusive) - lowerBound(fromInclusive);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     *
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in ascending order.
+     *
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Helper method that shifts the values from index on to the right
+     * and stores value at index, without checking the order
+     * @param index index at which the value is to be inserted
+     * @param value value to be inserted
+     */
+    private void insertAt(int index, int value) {
+        ensureCapacity(size + 1);
+        System.arraycopy(buffer, index, buffer, index + 1, size - index);
+        buffer[index] = value;
+        size++;
+    }
+
+    /**
+     * Helper method to grow the buffer geometrically so it holds
+     * at least minCapacity values
+     * @param minCapacity the smallest acceptable capacity
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity overflows int");
+        }
+        if (minCapacity > buffer.length) {
+            int newCapacity = buffer.length << 1;
+            if (newCapacity < minCapacity || newCapacity < 0) {
+                newCapacity = minCapacity;
+            }
+            buffer = Arrays.copyOf(buffer, newCapacity);
+        }
+    }
+
+    /**
+     * Helper method that rejects arrays that are not in ascending order
+     * @param values values to check
+     * @throws IllegalArgumentException if values is not in ascending order
+     */
+    private static void checkSorted(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                throw new IllegalArgumentException(
+                        "Values are not in ascending order at index " + i);
+            }
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     *
+     * @return a PrimitiveIterator.OfInt.
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new SortedIterator();
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * in ascending order.
+     *
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        int[] data = buffer;
+        int length = size;
+        for (int i = 0; i < length; i++) {
+            action.accept(data[i]);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values currently in the buffer.
+     * It splits by index range and also reports SORTED.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(buffer, 0, size,
+                Spliterator.ORDERED | Spliterator.SORTED);
+    }
+
+    //create a private helper Iterator class
+    private class SortedIterator implements PrimitiveIterator.OfInt {
+
+        // private fields:
+        private int index;
+
+        private SortedIterator() {
+            index = 0;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         *
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (index >= size) {
+                throw new NoSuchElementException("i is now out of bounds");
+            }
+            return buffer[index++];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SortedIntList{" +
+                "size=" + size +
+                ", buffer=" + Arrays.toString(toArray()) +
+                '}';
+    }
+}
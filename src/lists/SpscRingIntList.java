@@ -0,0 +1,545 @@
+package lists;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import interfaces.IntList;
+
+/**
+ * Class that hands ints from one producer thread to one consumer thread
+ * through a ring of int slots, for pipeline stages connected one to one.
+ *
+ * The producer only writes tail and the consumer only writes head, each
+ * with a release store, so neither ever waits for a lock. head and tail
+ * sit on cache lines of their own, apart from the ring and from each
+ * other, so the two threads do not slow each other through false sharing.
+ * Each side also keeps a private copy of the other side's counter and
+ * only reads the shared one when the copy says the ring is full or empty.
+ * publishBatch() and consumeBatch() move many values with a single
+ * counter write.
+ *
+ * The producer may call offer, addBack, addAll and publishBatch. The
+ * consumer may call poll, take, consumeBatch, removeFront, clear and the
+ * reading methods (get, indexOf, toArray, iterators, ...), which see the
+ * values not yet consumed. size and isEmpty work from any thread. With
+ * more than one thread on a side the ring breaks. The other writes of
+ * IntList throw UnsupportedOperationException.
+ *
+ * A side that must wait, because the ring is full or empty, asks its
+ * WaitStrategy how to: BUSY_SPIN, YIELD or PARK.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class SpscRingIntList extends SpscRingLayout.TrailPad implements IntList {
+
+    /**
+     * Capacity a new SpscRingIntList starts with
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 10;
+
+    /**
+     * How a producer waits for room or a consumer waits for values.
+     * idle() is called with 0, 1, 2, ... until the wait is over.
+     */
+    @FunctionalInterface
+    public interface WaitStrategy {
+
+        /**
+         * Spins on the CPU: lowest latency, but keeps a core busy
+         */
+        WaitStrategy BUSY_SPIN = attempt -> Thread.onSpinWait();
+
+        /**
+         * Spins briefly, then lets other threads run on the core
+         */
+        WaitStrategy YIELD = attempt -> {
+            if (attempt < 100) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        };
+
+        /**
+         * Spins, then yields, then sleeps in short parks: slowest to
+         * wake up but frees the core during long waits
+         */
+        WaitStrategy PARK = attempt -> {
+            if (attempt < 100) {
+                Thread.onSpinWait();
+            } else if (attempt < 200) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            }
+        };
+
+        /**
+         * Waits a little before the caller checks the ring again
+         * @param attempt the number of checks that failed so far
+         */
+        void idle(int attempt);
+    }
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscRingLayout.ConsumerFields.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscRingLayout.ProducerFields.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // fields, only read after construction:
+    private final int[] buffer;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * Constructor for SpscRingIntList creates a new SpscRingIntList
+     * that holds up to 1024 values and waits with YIELD
+     */
+    public SpscRingIntList() {
+        this(DEFAULT_CAPACITY, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Constructor for SpscRingIntList creates a new SpscRingIntList that
+     * holds at least the specified number of values, rounded up to a power
+     * of two, and waits with the specified strategy
+     * @param capacity the smallest number of values the ring must hold
+     * @param waitStrategy how to wait when the ring is full or empty
+     * @throws IllegalArgumentException if capacity is not positive or
+     * above 2^30
+     */
+    public SpscRingIntList(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "Capacity must be in the Range 1-" + (1 << 30) + ": " + capacity);
+        }
+        int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = new int[length];
+        mask = length - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Appends the specified value if there is room. Producer only.
+     *
+     * @param value value to be inserted
+     * @return true if the value was added, false if the ring was full
+     */
+    public boolean offer(int value) {
+        long end = tail;
+        if (end - headCache == buffer.length) {
+            headCache = (long) HEAD.getAcquire(this);
+            if (end - headCache == buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) end & mask] = value;
+        TAIL.setRelease(this, end + 1);
+        return true;
+    }
+
+    /**
+     * Appends as many of the specified values as there is room for,
+     * publishing them with one write of tail. Producer only.
+     *
+     * @param values array holding the values
+     * @param offset index in values of the first value
+     * @param length the most values to append
+     * @return the number of values appended, from offset on
+     * @throws IndexOutOfBoundsException if offset and length do not fit values
+     */
+    public int publishBatch(int[] values, int offset, int length) {
+        checkRange(values, offset, length);
+        long end = tail;
+        int room = buffer.length - (int) (end - headCache);
+        if (room < length) {
+            headCache = (long) HEAD.getAcquire(this);
+            room = buffer.length - (int) (end - headCache);
+        }
+        int count = Math.min(room, length);
+        if (count > 0) {
+            copyIn(values, offset, end, count);
+            TAIL.setRelease(this, end + count);
+        }
+        return count;
+    }
+
+    /**
+     * Appends the specified value, waiting while the ring is full.
+     * Producer only.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        for (int attempt = 0; !offer(value); attempt++) {
+            waitStrategy.idle(attempt);
+        }
+    }
+
+    /**
+     * Appends all the specified values, in order, waiting for room as
+     * needed and publishing as many at a time as fit. Producer only.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        int published = 0;
+        int attempt = 0;
+        while (published < values.length) {
+            int count = publishBatch(values, published, values.length - published);
+            if (count == 0) {
+                waitStrategy.idle(attempt++);
+            } else {
+                published += count;
+                attempt = 0;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first value, or the specified value if the
+     * ring is empty. Consumer only.
+     *
+     * @param emptyValue value to return if the ring is empty
+     * @return the first value, or emptyValue if the ring was empty
+     */
+    public int poll(int emptyValue) {
+        long start = head;
+        if (start == tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (start == tailCache) {
+                return emptyValue;
+            }
+        }
+        int value = buffer[(int) start & mask];
+        HEAD.setRelease(this, start + 1);
+        return value;
+    }
+
+    /**
+     * Removes and returns the first value, waiting while the ring is
+     * empty. Consumer only.
+     *
+     * @return the first value
+     */
+    public int take() {
+        for (int attempt = 0; available(1) == 0; attempt++) {
+            waitStrategy.idle(attempt);
+        }
+        long start = head;
+        int value = buffer[(int) start & mask];
+        HEAD.setRelease(this, start + 1);
+        return value;
+    }
+
+    /**
+     * Removes values from the front into the specified array, as many as
+     * there are and fit, with one write of head. Consumer only.
+     *
+     * @param values array to fill from index 0
+     * @return the number of values removed
+     */
+    public int consumeBatch(int[] values) {
+        return consumeBatch(values, 0, values.length);
+    }
+
+    /**
+     * Removes up to length values from the front into the specified
+     * array, starting at offset, with one write of head. Consumer only.
+     *
+     * @param values array to fill
+     * @param offset index in values of the first value removed
+     * @param length the most values to remove
+     * @return the number of values removed
+     * @throws IndexOutOfBoundsException if offset and length do not fit values
+     */
+    public int consumeBatch(int[] values, int offset, int length) {
+        checkRange(values, offset, length);
+        int count = Math.min(available(length), length);
+        if (count > 0) {
+            long start = head;
+            copyOut(start, values, offset, count);
+            HEAD.setRelease(this, start + count);
+        }
+        return count;
+    }
+
+    /**
+     * Helper method that returns how many values the consumer can take,
+     * reading tail only if the cached copy shows fewer than wanted
+     */
+    private int available(int wanted) {
+        long start = head;
+        if (tailCache - start < wanted) {
+            tailCache = (long) TAIL.getAcquire(this);
+        }
+        return (int) (tailCache - start);
+    }
+
+    /**
+     * Helper method that copies values into the ring from a ticket on,
+     * in up to two pieces where the ring wraps
+     */
+    private void copyIn(int[] values, int offset, long ticket, int count) {
+        int slot = (int) ticket & mask;
+        int first = Math.min(count, buffer.length - slot);
+        System.arraycopy(values, offset, buffer, slot, first);
+        System.arraycopy(values, offset + first, buffer, 0, count - first);
+    }
+
+    /**
+     * Helper method that copies values out of the ring from a ticket on,
+     * in up to two pieces where the ring wraps
+     */
+    private void copyOut(long ticket, int[] values, int offset, int count) {
+        int slot = (int) ticket & mask;
+        int first = Math.min(count, buffer.length - slot);
+        System.arraycopy(buffer, slot, values, offset, first);
+        System.arraycopy(buffer, 0, values, offset + first, count - first);
+    }
+
+    private static void checkRange(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + offset + ", " + offset + " + " + length
+                            + ") is out of bounds for length " + values.length);
+        }
+    }
+
+    /**
+     * Not supported: the producer may only append.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addFront(int value) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported: the producer may only append.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, int value) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported: the producer may only append.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        throw unsupported();
+    }
+
+    /**
+     * Removes the first value, if there is one. Consumer only.
+     */
+    @Override
+    public void removeFront() {
+        if (available(1) > 0) {
+            HEAD.setRelease(this, head + 1);
+        }
+    }
+
+    /**
+     * Not supported: the consumer may only remove from the front.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeBack() {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported: the consumer may only remove from the front.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int remove(int index) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException(
+                "SpscRingIntList only appends at the back and removes from the front");
+    }
+
+    /**
+     * Returns the value at the specified position among the values not
+     * yet consumed. Consumer only.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        long start = head;
+        int size = (int) ((long) TAIL.getAcquire(this) - start);
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        return buffer[(int) (start + index) & mask];
+    }
+
+    /**
+     * Returns true if this list contains the specified value. Consumer only.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Consumer only.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int[] values = toArray();
+        return IntSearch.indexOf(values, 0, values.length, value);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Consumer only.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        int[] values = toArray();
+        return IntSearch.lastIndexOf(values, 0, values.length, value);
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     * Consumer only.
+     *
+     * @param value value to count
+     * @return the number of occurrences of value
+     */
+    @Override
+    public int count(int value) {
+        int[] values = toArray();
+        return IntSearch.count(values, 0, values.length, value);
+    }
+
+    /**
+     * Returns true if this list contains no values. From any thread
+     * other than the two sides this is only an estimate.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values published and not yet consumed. From
+     * any thread other than the two sides this is only an estimate.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        while (true) {
+            long start = (long) HEAD.getAcquire(this);
+            long end = (long) TAIL.getAcquire(this);
+            if (start == (long) HEAD.getAcquire(this)) {
+                return (int) (end - start);
+            }
+        }
+    }
+
+    /**
+     * Returns the most values the ring can hold
+     * @return the length of the ring
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Removes all the values published so far. Consumer only.
+     */
+    @Override
+    public void clear() {
+        tailCache = (long) TAIL.getAcquire(this);
+        HEAD.setRelease(this, tailCache);
+    }
+
+    /**
+     * Returns a new array of the values not yet consumed, in order from
+     * front to back. Consumer only.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        long start = head;
+        int[] values = new int[(int) ((long) TAIL.getAcquire(this) - start)];
+        copyOut(start, values, 0, values.length);
+        return values;
+    }
+
+    /**
+     * Returns a primitive iterator over a snapshot of the values not yet
+     * consumed. Consumer only.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the values not yet
+     * consumed. Consumer only.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        int[] values = toArray();
+        return Spliterators.spliterator(values, 0, values.length,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        return "SpscRingIntList{" +
+                "values=" + Arrays.toString(toArray()) +
+                '}';
+    }
+}
+
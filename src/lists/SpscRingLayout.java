@@ -0,0 +1,47 @@
+package lists;
+
+/**
+ * The superclasses that lay out the counters of SpscRingIntList. The JVM
+ * puts a superclass's fields before its subclass's, so each run of fifteen
+ * longs (120 bytes) keeps the fields on either side of it more than two
+ * cache lines apart, out of reach of the adjacent-line prefetch that
+ * fetches 64-byte lines in pairs on x86.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+final class SpscRingLayout {
+
+    private SpscRingLayout() {
+        // no instances
+    }
+
+    abstract static class LeadPad {
+        long p01, p02, p03, p04, p05, p06, p07, p08;
+        long p09, p10, p11, p12, p13, p14, p15;
+    }
+
+    abstract static class ProducerFields extends LeadPad {
+        // written by the producer only
+        volatile long tail;
+        // the producer's copy of head
+        long headCache;
+    }
+
+    abstract static class MiddlePad extends ProducerFields {
+        long p21, p22, p23, p24, p25, p26, p27, p28;
+        long p29, p30, p31, p32, p33, p34, p35;
+    }
+
+    abstract static class ConsumerFields extends MiddlePad {
+        // written by the consumer only
+        volatile long head;
+        // the consumer's copy of tail
+        long tailCache;
+    }
+
+    abstract static class TrailPad extends ConsumerFields {
+        long p41, p42, p43, p44, p45, p46, p47, p48;
+        long p49, p50, p51, p52, p53, p54, p55;
+    }
+}
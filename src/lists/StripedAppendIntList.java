@@ -0,0 +1,633 @@
+package lists;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Class that many threads can append ints to at once, each into its own
+ * stripe, without locks or compare-and-set.
+ *
+ * A stripe belongs to one thread and is a chain of int[] chunks. The
+ * thread writes a value into its last chunk and then publishes the chunk's
+ * new count with a release store, which costs no more than a plain store
+ * on most hardware. Stripes never share memory, so appends scale with the
+ * number of cores.
+ *
+ * Readers see each stripe's values in the order that stripe's thread
+ * appended them, with the stripes one after the other in the order their
+ * threads first appended. Values from different threads are not ordered.
+ * Readers take a lock among themselves only; appenders never wait for them.
+ * snapshot() returns the merged values as a read-only IntList, and
+ * drainTo() moves them into another list and frees the chunks they used.
+ * drainTo() and clear() also drop the stripes of threads that have died
+ * once those stripes are empty, so pooled threads that come and go do not
+ * pile up stripes.
+ *
+ * This list supports addBack, addAll(int[]), clear and the reading side
+ * of IntList. Reads see every value whose append finished before the
+ * read started. Other writes throw UnsupportedOperationException.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class StripedAppendIntList implements IntList {
+
+    /**
+     * Number of values a chunk holds unless specified
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 1 << 10;
+
+    private static final VarHandle COUNT;
+
+    static {
+        try {
+            COUNT = MethodHandles.lookup().findVarHandle(Chunk.class, "count", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // fields:
+    private final int chunkCapacity;
+    private final List<Stripe> stripes = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Stripe> local = ThreadLocal.withInitial(this::register);
+    // serializes readers, which move the head of each stripe
+    private final Object readLock = new Object();
+
+    /**
+     * A run of values appended by one thread
+     */
+    private static final class Chunk {
+        private final int[] values;
+        // number of values stripe had before this chunk
+        private final long base;
+        // written only by the owner with a release store
+        private int count;
+        private volatile Chunk next;
+
+        private Chunk(int capacity, long base) {
+            this.values = new int[capacity];
+            this.base = base;
+        }
+    }
+
+    /**
+     * The chunks of one thread. Only the owner moves tail, and only
+     * readers holding readLock move head and headIndex.
+     */
+    private static final class Stripe {
+        // weak so a stripe does not keep its dead thread reachable
+        private final WeakReference<Thread> owner;
+        private volatile Chunk tail;
+        private Chunk head;
+        private int headIndex;
+
+        private Stripe(Thread owner, Chunk first) {
+            this.owner = new WeakReference<>(owner);
+            tail = first;
+            head = first;
+        }
+
+        /**
+         * True once the owner has died and every value it appended has
+         * been drained, so no value can reach this stripe again
+         */
+        private boolean isRetired() {
+            Thread thread = owner.get();
+            // a dead thread's appends happen-before isAlive() returns false
+            return (thread == null || !thread.isAlive()) && size() == 0;
+        }
+
+        /**
+         * The number of values appended and not yet drained, for a reader
+         */
+        private long size() {
+            Chunk last = tail;
+            return last.base + (int) COUNT.getAcquire(last) - head.base - headIndex;
+        }
+    }
+
+    /**
+     * Constructor for StripedAppendIntList creates a new empty
+     * StripedAppendIntList with chunks of 1024 values
+     */
+    public StripedAppendIntList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructor for StripedAppendIntList creates a new empty
+     * StripedAppendIntList with chunks of the specified capacity
+     * @param chunkCapacity number of values each chunk holds
+     * @throws IllegalArgumentException if chunkCapacity is not positive
+     */
+    public StripedAppendIntList(int chunkCapacity) {
+        if (chunkCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "Chunk capacity must be positive: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    /**
+     * Helper method that creates and lists the stripe of the calling thread
+     */
+    private Stripe register() {
+        Stripe stripe = new Stripe(Thread.currentThread(), new Chunk(chunkCapacity, 0));
+        stripes.add(stripe);
+        return stripe;
+    }
+
+    /**
+     * Not supported: only appends keep the stripes free of locks.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addFront(int value) {
+        throw unsupported();
+    }
+
+    /**
+     * Appends the specified value at the back of the calling thread's stripe.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        Stripe stripe = local.get();
+        Chunk last = stripe.tail;
+        int count = (int) COUNT.getOpaque(last);
+        if (count == last.values.length) {
+            last = append(stripe, last);
+            count = 0;
+        }
+        last.values[count] = value;
+        COUNT.setRelease(last, count + 1);
+    }
+
+    /**
+     * Appends all the specified values, in order, at the back of the
+     * calling thread's stripe, publishing once per chunk.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        Stripe stripe = local.get();
+        Chunk last = stripe.tail;
+        int copied = 0;
+        while (copied < values.length) {
+            int count = (int) COUNT.getOpaque(last);
+            if (count == last.values.length) {
+                last = append(stripe, last);
+                count = 0;
+            }
+            int length = Math.min(values.length - copied, last.values.length - count);
+            System.arraycopy(values, copied, last.values, count, length);
+            COUNT.setRelease(last, count + length);
+            copied += length;
+        }
+    }
+
+    /**
+     * Helper method that links a new chunk after the full last chunk of
+     * a stripe, called only by the stripe's owner
+     * @return the new last chunk
+     */
+    private Chunk append(Stripe stripe, Chunk last) {
+        Chunk next = new Chunk(chunkCapacity, last.base + last.values.length);
+        last.next = next;
+        stripe.tail = next;
+        return next;
+    }
+
+    /**
+     * Not supported: only appends keep the stripes free of locks.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, int value) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported: only appends keep the stripes free of locks.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported: use drainTo() to take values out.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeFront() {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported: use drainTo() to take values out.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeBack() {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported: use drainTo() to take values out.
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int remove(int index) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException(
+                "StripedAppendIntList only supports appends, reads, drainTo and clear");
+    }
+
+    /**
+     * Moves all the values into the specified list, stripe after stripe,
+     * and frees the chunks they used, along with the stripes of threads
+     * that have died. Values appended meanwhile may or may not be moved;
+     * none are lost or moved twice.
+     *
+     * @param target list to append the values to
+     * @return the number of values moved
+     */
+    public int drainTo(IntList target) {
+        int[] values;
+        synchronized (readLock) {
+            values = collect(true);
+            stripes.removeIf(Stripe::isRetired);
+        }
+        target.addAll(values);
+        return values.length;
+    }
+
+    /**
+     * Returns the values as they are now as a read-only IntList, which
+     * later appends do not affect.
+     *
+     * @return a read-only IntList of the values
+     */
+    public IntList snapshot() {
+        return new Snapshot(toArray());
+    }
+
+    /**
+     * Helper method that copies the values of every stripe, holding
+     * readLock, and if drain is true moves each stripe's head past them
+     */
+    private int[] collect(boolean drain) {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.size();
+        }
+        int[] values = new int[(int) Math.min(total, Integer.MAX_VALUE - 8)];
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            Chunk chunk = stripe.head;
+            int index = stripe.headIndex;
+            while (true) {
+                int count = (int) COUNT.getAcquire(chunk);
+                int length = count - index;
+                if (length > 0) {
+                    if (size + length > values.length) {
+                        // appended since the sizes were summed
+                        values = Arrays.copyOf(values, Math.max(values.length * 2, size + length));
+                    }
+                    System.arraycopy(chunk.values, index, values, size, length);
+                    size += length;
+                    index = count;
+                }
+                Chunk next = count == chunk.values.length ? chunk.next : null;
+                if (next == null) {
+                    break;
+                }
+                chunk = next;
+                index = 0;
+            }
+            if (drain) {
+                stripe.head = chunk;
+                stripe.headIndex = index;
+            }
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns the value at the specified position in the merged values.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        synchronized (readLock) {
+            long skipped = 0;
+            for (Stripe stripe : stripes) {
+                long size = stripe.size();
+                if (index >= 0 && index - skipped < size) {
+                    long position = stripe.headIndex + index - skipped;
+                    Chunk chunk = stripe.head;
+                    while (position >= chunk.values.length) {
+                        position -= chunk.values.length;
+                        chunk = chunk.next;
+                    }
+                    return chunk.values[(int) position];
+                }
+                skipped += size;
+            }
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (skipped - 1));
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in the merged values, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int[] values = toArray();
+        return IntSearch.indexOf(values, 0, values.length, value);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in the merged values, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        int[] values = toArray();
+        return IntSearch.lastIndexOf(values, 0, values.length, value);
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of value
+     */
+    @Override
+    public int count(int value) {
+        int[] values = toArray();
+        return IntSearch.count(values, 0, values.length, value);
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of values in this list, summed over the stripes.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        long total = 0;
+        synchronized (readLock) {
+            for (Stripe stripe : stripes) {
+                total += stripe.size();
+            }
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes all the values appended so far and frees their chunks,
+     * along with the stripes of threads that have died.
+     */
+    @Override
+    public void clear() {
+        synchronized (readLock) {
+            for (Stripe stripe : stripes) {
+                Chunk last = stripe.tail;
+                stripe.head = last;
+                stripe.headIndex = (int) COUNT.getAcquire(last);
+            }
+            stripes.removeIf(Stripe::isRetired);
+        }
+    }
+
+    /**
+     * Returns a new array of the merged values, stripe after stripe.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        synchronized (readLock) {
+            return collect(false);
+        }
+    }
+
+    /**
+     * Returns a primitive iterator over a snapshot of the merged values.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Performs the given action on each value of a snapshot of this list.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (int value : toArray()) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Returns a spliterator over a snapshot of the merged values.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        int[] values = toArray();
+        return Spliterators.spliterator(values, 0, values.length,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Returns the number of threads that have appended to this list,
+     * less those that died and were dropped by drainTo() or clear()
+     * @return the number of stripes
+     */
+    public int stripeCount() {
+        return stripes.size();
+    }
+
+    @Override
+    public String toString() {
+        return "StripedAppendIntList{" +
+                "values=" + Arrays.toString(toArray()) +
+                '}';
+    }
+
+    /**
+     * Read-only IntList over merged values that no one else holds
+     */
+    private static final class Snapshot implements IntList {
+
+        private final int[] values;
+
+        private Snapshot(int[] values) {
+            this.values = values;
+        }
+
+        private static UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("A snapshot is read-only");
+        }
+
+        @Override
+        public void addFront(int value) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addBack(int value) {
+            throw readOnly();
+        }
+
+        @Override
+        public void add(int index, int value) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addAll(int[] values) {
+            throw readOnly();
+        }
+
+        @Override
+        public void insertAll(int index, int[] values) {
+            throw readOnly();
+        }
+
+        @Override
+        public void removeFront() {
+            throw readOnly();
+        }
+
+        @Override
+        public void removeBack() {
+            throw readOnly();
+        }
+
+        @Override
+        public int remove(int index) {
+            throw readOnly();
+        }
+
+        @Override
+        public int get(int index) {
+            if (index < 0 || index >= values.length) {
+                throw new IndexOutOfBoundsException(
+                        "Index must be in the Range 0-" + (values.length - 1));
+            }
+            return values[index];
+        }
+
+        @Override
+        public boolean contains(int value) {
+            return indexOf(value) >= 0;
+        }
+
+        @Override
+        public int indexOf(int value) {
+            return IntSearch.indexOf(values, 0, values.length, value);
+        }
+
+        @Override
+        public int lastIndexOf(int value) {
+            return IntSearch.lastIndexOf(values, 0, values.length, value);
+        }
+
+        @Override
+        public int count(int value) {
+            return IntSearch.count(values, 0, values.length, value);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values.length == 0;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public void clear() {
+            throw readOnly();
+        }
+
+        @Override
+        public int[] toArray() {
+            return values.clone();
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt intIterator() {
+            return Spliterators.iterator(spliterator());
+        }
+
+        @Override
+        public Spliterator.OfInt spliterator() {
+            return Spliterators.spliterator(values, 0, values.length,
+                    Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(values);
+        }
+    }
+}
@@ -0,0 +1,740 @@
+package lists;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+import interfaces.IntList;
+
+/**
+ * Creates an unrolled linked list, a doubly linked list of chunks that
+ * each hold up to chunkCapacity values in an int[], and implements
+ * methods in IntList.
+ *
+ * An edit only shifts values inside one chunk. A full chunk splits in
+ * half, and a chunk that drops below half full, after a removal or at
+ * the end of an insertAll, merges with a neighbour when their values fit
+ * in one chunk. Each chunk knows how many values
+ * it holds, so positional walks step over whole chunks, starting from
+ * the front, the back or the chunk used last, whichever is closest.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class UnrolledIntList implements IntList {
+
+    /**
+     * Number of values a chunk holds unless the constructor is told otherwise
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 128;
+
+    // smallest chunk that can still be split in two useful halves
+    private static final int MIN_CHUNK_CAPACITY = 4;
+
+    // Fields
+    private final int chunkCapacity;
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+
+    // the chunk found by the last walk and the index of its first value;
+    // finger is null when there is no usable position
+    private Chunk finger;
+    private int fingerStart;
+
+    /**
+     * Constructor for UnrolledIntList with chunks of
+     * DEFAULT_CHUNK_CAPACITY values
+     */
+    public UnrolledIntList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructor for UnrolledIntList with chunks of chunkCapacity values.
+     * Larger chunks walk faster and use less memory per value, smaller
+     * chunks shift fewer values per edit.
+     * @param chunkCapacity number of values each chunk can hold
+     * @throws IllegalArgumentException if chunkCapacity is less than 4
+     */
+    public UnrolledIntList(int chunkCapacity) {
+        if (chunkCapacity < MIN_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException("Chunk capacity must be at least "
+                    + MIN_CHUNK_CAPACITY + ": " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+        finger = null;
+    }
+
+    private class Chunk {
+        final int[] values;
+        int count;
+        Chunk next;
+        Chunk prev;
+
+        Chunk() {
+            values = new int[chunkCapacity];
+        }
+    }
+
+    /**
+     * Prepends (inserts) the specified value at the front of the list (at index 0).
+     * Shifts the value currently at the front of the list (if any) and any
+     * subsequent values to the right.
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addFront(int value) {
+        if (head == null || head.count == chunkCapacity) {
+            linkAfter(null, new Chunk());
+        }
+        insertInChunk(head, 0, value);
+        if (finger != head) {
+            fingerStart++;
+        }
+    }
+
+    /**
+     * Appends (inserts) the specified value at the back of the list (at index size()-1).
+     *
+     * @param value value to be inserted
+     */
+    @Override
+    public void addBack(int value) {
+        if (tail == null || tail.count == chunkCapacity) {
+            linkAfter(tail, new Chunk());
+        }
+        insertInChunk(tail, tail.count, value);
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list.
+     * Shifts the value currently at that position (if any) and any subsequent
+     * values to the right, which only moves values inside one chunk.
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (index == size) {
+            addBack(value);
+            return;
+        }
+        Chunk chunk = chunkAt(index);
+        int offset = index - fingerStart;
+        if (chunk.count == chunkCapacity) {
+            Chunk upper = split(chunk, chunkCapacity / 2);
+            if (offset > chunk.count) {
+                offset -= chunk.count;
+                finger = upper;
+                fingerStart += chunk.count;
+                chunk = upper;
+            }
+        }
+        insertInChunk(chunk, offset, value);
+    }
+
+    /**
+     * Appends all the specified values, in order, to the back of the list.
+     *
+     * @param values values to be inserted
+     */
+    @Override
+    public void addAll(int[] values) {
+        insertAll(size, values);
+    }
+
+    /**
+     * Inserts all the specified values, in order, starting at the specified
+     * position in this list. The chunk at index is split there and the
+     * values are copied into full chunks between the two halves. The last
+     * of those chunks and the half after it then merge with a neighbour
+     * if they are less than half full, so repeated inserts do not leave
+     * the list in small pieces.
+     *
+     * @param index index at which the first value is to be inserted
+     * @param values values to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public void insertAll(int index, int[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + size);
+        }
+        if (values.length == 0) {
+            return;
+        }
+        // find the chunk that the values go after
+        Chunk before;
+        if (index == size) {
+            before = tail;
+        } else if (index == 0) {
+            before = null;
+        } else {
+            before = chunkAt(index - 1);
+            int offset = index - fingerStart;
+            if (offset < before.count) {
+                split(before, offset);
+            }
+        }
+        // top up the chunk before, then add full chunks
+        int copied = 0;
+        if (before != null) {
+            copied = Math.min(chunkCapacity - before.count, values.length);
+            System.arraycopy(values, 0, before.values, before.count, copied);
+            before.count += copied;
+        }
+        while (copied < values.length) {
+            Chunk chunk = new Chunk();
+            chunk.count = Math.min(chunkCapacity, values.length - copied);
+            System.arraycopy(values, copied, chunk.values, 0, chunk.count);
+            linkAfter(before, chunk);
+            before = chunk;
+            copied += chunk.count;
+        }
+        size += values.length;
+        finger = null;
+        // the last chunk filled and the one after it may be part full
+        if (before.next != null) {
+            rebalance(before.next);
+        }
+        rebalance(before);
+    }
+
+    /**
+     * Removes the value located at the front of the list
+     * (at index 0), if it is present.
+     * Shifts any subsequent values to the left.
+     */
+    @Override
+    public void removeFront() {
+        if (size > 0) {
+            Chunk chunk = head;
+            removeFromChunk(chunk, 0);
+            if (finger != chunk) {
+                fingerStart--;
+            }
+            rebalance(chunk);
+        }
+    }
+
+    /**
+     * Removes the value located at the back of the list
+     * (at index size()-1), if it is present.
+     */
+    @Override
+    public void removeBack() {
+        if (size > 0) {
+            Chunk chunk = tail;
+            removeFromChunk(chunk, chunk.count - 1);
+            rebalance(chunk);
+        }
+    }
+
+    /**
+     * Removes the value at the specified position in this list.
+     * Shifts any subsequent values to the left. Returns the value
+     * that was removed from the list.
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        Chunk chunk = chunkAt(index);
+        int removedValue = removeFromChunk(chunk, index - fingerStart);
+        rebalance(chunk);
+        return removedValue;
+    }
+
+    /**
+     * Returns the value at the specified position in the list.
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index must be in the Range 0-" + (size - 1));
+        }
+        Chunk chunk = chunkAt(index);
+        return chunk.values[index - fingerStart];
+    }
+
+    /**
+     * Helper method that finds the chunk holding a valid index, stepping
+     * over whole chunks from whichever of front, back and finger is
+     * closest. The found chunk becomes the finger, so its first index
+     * is fingerStart when this returns.
+     * @param index index of a value, between 0 and size - 1
+     * @return the chunk holding index
+     */
+    private Chunk chunkAt(int index) {
+        Chunk current;
+        int start;
+        if (finger != null && index >= fingerStart - index
+                && index - fingerStart < size - index) {
+            current = finger;
+            start = fingerStart;
+        } else if (index < size - index) {
+            current = head;
+            start = 0;
+        } else {
+            current = tail;
+            start = size - tail.count;
+        }
+        while (index >= start + current.count) {
+            start += current.count;
+            current = current.next;
+        }
+        while (index < start) {
+            current = current.prev;
+            start -= current.count;
+        }
+        finger = current;
+        fingerStart = start;
+        return current;
+    }
+
+    /**
+     * Helper method that stores value at offset in a chunk with room
+     * @param chunk chunk holding fewer than chunkCapacity values
+     * @param offset position in the chunk, between 0 and chunk.count
+     * @param value value to be inserted
+     */
+    private void insertInChunk(Chunk chunk, int offset, int value) {
+        System.arraycopy(chunk.values, offset, chunk.values, offset + 1, chunk.count - offset);
+        chunk.values[offset] = value;
+        chunk.count++;
+        size++;
+    }
+
+    /**
+     * Helper method that removes the value at offset in a chunk
+     * @param chunk chunk holding the value
+     * @param offset position in the chunk, between 0 and chunk.count - 1
+     * @return the removed value
+     */
+    private int removeFromChunk(Chunk chunk, int offset) {
+        int removedValue = chunk.values[offset];
+        System.arraycopy(chunk.values, offset + 1, chunk.values, offset, chunk.count - offset - 1);
+        chunk.count--;
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Helper method that moves the values of chunk from offset on into a
+     * new chunk linked right after it
+     * @param chunk chunk to split
+     * @param offset number of values that stay in chunk
+     * @return the new chunk
+     */
+    private Chunk split(Chunk chunk, int offset) {
+        Chunk upper = new Chunk();
+        upper.count = chunk.count - offset;
+        System.arraycopy(chunk.values, offset, upper.values, 0, upper.count);
+        chunk.count = offset;
+        linkAfter(chunk, upper);
+        return upper;
+    }
+
+    /**
+     * Helper method run after a removal from chunk or an insertAll next
+     * to it: drops the chunk if it is empty, and once it is less than half
+     * full merges it with a neighbour whose values fit alongside its own.
+     * @param chunk chunk a value was just removed from or inserted around
+     */
+    private void rebalance(Chunk chunk) {
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else if (chunk.count < chunkCapacity / 2) {
+            if (chunk.next != null && chunk.count + chunk.next.count <= chunkCapacity) {
+                merge(chunk, chunk.next);
+            } else if (chunk.prev != null && chunk.prev.count + chunk.count <= chunkCapacity) {
+                merge(chunk.prev, chunk);
+            }
+        }
+    }
+
+    /**
+     * Helper method that appends the values of upper to lower, its
+     * predecessor, and unlinks upper
+     * @param lower chunk that keeps the values
+     * @param upper chunk right after lower
+     */
+    private void merge(Chunk lower, Chunk upper) {
+        System.arraycopy(upper.values, 0, lower.values, lower.count, upper.count);
+        if (finger == upper) {
+            finger = lower;
+            fingerStart -= lower.count;
+        }
+        lower.count += upper.count;
+        unlink(upper);
+    }
+
+    /**
+     * Helper method that links a chunk after another
+     * @param before chunk to link after, or null to make it the head
+     * @param chunk chunk to link
+     */
+    private void linkAfter(Chunk before, Chunk chunk) {
+        Chunk after = before == null ? head : before.next;
+        chunk.prev = before;
+        chunk.next = after;
+        if (before == null) {
+            head = chunk;
+        } else {
+            before.next = chunk;
+        }
+        if (after == null) {
+            tail = chunk;
+        } else {
+            after.prev = chunk;
+        }
+    }
+
+    /**
+     * Helper method that unlinks an empty or merged chunk
+     * @param chunk chunk to unlink
+     */
+    private void unlink(Chunk chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        if (finger == chunk) {
+            finger = null;
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified value.
+     *
+     * @param value value whose presence in this list is to be searched for
+     * @return true if this list contains the specified value
+     */
+    @Override
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Each chunk is searched with IntSearch.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int indexOf(int value) {
+        int start = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int offset = IntSearch.indexOf(chunk.values, 0, chunk.count, value);
+            if (offset != -1) {
+                return start + offset;
+            }
+            start += chunk.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     * Each chunk is searched with IntSearch, from the back.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list
+     * or -1 if this list does not contain the value
+     */
+    @Override
+    public int lastIndexOf(int value) {
+        int start = size;
+        for (Chunk chunk = tail; chunk != null; chunk = chunk.prev) {
+            start -= chunk.count;
+            int offset = IntSearch.lastIndexOf(chunk.values, 0, chunk.count, value);
+            if (offset != -1) {
+                return start + offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of times the specified value occurs in this list.
+     *
+     * @param value value to count
+     * @return the number of occurrences of value
+     */
+    @Override
+    public int count(int value) {
+        int count = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            count += IntSearch.count(chunk.values, 0, chunk.count, value);
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if this list contains no values.
+     * @return true if this list contains no values
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     * @return the number of values in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the values from this list.
+     * The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        finger = null;
+        size = 0;
+    }
+
+    /**
+     * Returns a new array containing all the values in this list,
+     * in order from front to back, copying a chunk at a time.
+     * @return an array of the values in this list
+     */
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size];
+        int start = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.values, 0, values, start, chunk.count);
+            start += chunk.count;
+        }
+        return values;
+    }
+
+    /**
+     * Returns the number of values each chunk can hold.
+     * @return the chunk capacity
+     */
+    public int chunkCapacity() {
+        return chunkCapacity;
+    }
+
+    /**
+     * Returns the number of chunks the values are spread over.
+     * @return the number of chunks
+     */
+    public int chunkCount() {
+        int chunks = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            chunks++;
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns a primitive iterator over the values in this list.
+     * @return a PrimitiveIterator.OfInt over the values in this list
+     */
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * Performs the given action on each value in this list,
+     * a chunk at a time.
+     * @param action the action to be performed on each value
+     */
+    @Override
+    public void forEachInt(IntConsumer action) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values in this list. Each split hands
+     * off whole chunks until about half of the remaining values are
+     * covered, copied into one array.
+     *
+     * @return a Spliterator.OfInt.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new ChunkSpliterator(head, 0, size);
+    }
+
+    /**
+     * helper class/type that splits the list along chunk boundaries
+     */
+    private class ChunkSpliterator implements Spliterator.OfInt {
+
+        private Chunk chunk;
+        private int offset;
+        private int remaining;
+
+        private ChunkSpliterator(Chunk chunk, int offset, int remaining) {
+            this.chunk = chunk;
+            this.offset = offset;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (remaining <= chunkCapacity) {
+                return null;
+            }
+            int n = 0;
+            int half = remaining / 2;
+            int[] values = new int[half + chunkCapacity];
+            while (n < half) {
+                int length = chunk.count - offset;
+                System.arraycopy(chunk.values, offset, values, n, length);
+                n += length;
+                chunk = chunk.next;
+                offset = 0;
+            }
+            remaining -= n;
+            return Spliterators.spliterator(values, 0, n, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            if (offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            action.accept(chunk.values[offset++]);
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (remaining > 0) {
+                if (offset == chunk.count) {
+                    chunk = chunk.next;
+                    offset = 0;
+                }
+                int end = Math.min(chunk.count, offset + remaining);
+                int[] values = chunk.values;
+                for (int i = offset; i < end; i++) {
+                    action.accept(values[i]);
+                }
+                remaining -= end - offset;
+                offset = end;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * helper class/type that defines how the iterator works,
+     * walking each chunk by offset
+     */
+    private class ChunkIterator implements PrimitiveIterator.OfInt {
+
+        private Chunk chunk;
+        private int offset;
+
+        private ChunkIterator() {
+            chunk = head;
+            offset = 0;
+        }
+
+        /**
+         * Returns {@code true} if the iteration has more elements.
+         * @return {@code true} if the iteration has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return chunk != null && (offset < chunk.count || chunk.next != null);
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more elements
+         */
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no next one to go to!");
+            }
+            if (offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            return chunk.values[offset++];
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder list = new StringBuilder("UnrolledIntList{Size: ")
+                .append(size).append(", list [");
+        PrimitiveIterator.OfInt itr = intIterator();
+        while (itr.hasNext()) {
+            list.append(itr.nextInt());
+            if (itr.hasNext()) {
+                list.append(" -> ");
+            }
+        }
+        return list.append("]}").toString();
+    }
+}
@@ -1,4 +1,7 @@
 package tests;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
 import lists.ArrayIntList;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -314,6 +317,188 @@ public class ArrayIntListTest {
         assertEquals(0, array.size());
     }
 
+    /**
+     * Test that many appends grow the buffer and keep every value,
+     * and that stored zeros do not make the list look empty
+     */
+    @Test
+    public void growthTest() {
+        array.clear();
+        array.addBack(0);
+        assertFalse(array.isEmpty());
+        array.removeBack();
+        assertTrue(array.isEmpty());
+
+        for (int i = 0; i < ITERATIONS * 1000; i++) {
+            array.addBack(i);
+        }
+        assertEquals(ITERATIONS * 1000, array.size());
+        for (int i = 0; i < ITERATIONS * 1000; i++) {
+            assertEquals(i, array.get(i));
+        }
+        assertEquals(ITERATIONS * 1000 - 1, array.indexOf(ITERATIONS * 1000 - 1));
+    }
+
+    /**
+     * Test addAll() and insertAll() at the front, middle and back,
+     * appending a list to itself and an out of range index
+     */
+    @Test
+    public void addAllTest() {
+        array.clear();
+        array.addAll(new int[] {0, 1, 5, 6});
+        array.insertAll(2, new int[] {2, 3, 4});
+        array.insertAll(0, new int[] {});
+        array.insertAll(array.size(), new int[] {7});
+        assertEquals(8, array.size());
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals(i, array.get(i));
+        }
+
+        array.addAll(array);
+        assertEquals(16, array.size());
+        assertEquals(7, array.get(15));
+        assertEquals(0, array.get(8));
+
+        //IndexOutOfBoundsException is thrown if index larger than size
+        exception = assertThrows(
+                IndexOutOfBoundsException.class, () -> {
+                    array.insertAll(array.size() + 1, new int[] {1});
+                });
+    }
+
+    /**
+     * Test ensureCapacity(), trimToSize(), the shrink policies and that
+     * clear() keeps the buffer for reuse
+     */
+    @Test
+    public void capacityTest() {
+        ArrayIntList sized = new ArrayIntList(ITERATIONS * 100);
+        assertEquals(ITERATIONS * 100, sized.capacity());
+        exception = assertThrows(
+                IllegalArgumentException.class, () -> {
+                    new ArrayIntList(-1);
+                });
+
+        sized.ensureCapacity(ITERATIONS * 200);
+        assertTrue(sized.capacity() >= ITERATIONS * 200);
+        for (int i = 0; i < ITERATIONS; i++) {
+            sized.addBack(i);
+        }
+        sized.trimToSize();
+        assertEquals(ITERATIONS, sized.capacity());
+
+        //clear keeps the buffer
+        sized.clear();
+        assertEquals(ITERATIONS, sized.capacity());
+        assertTrue(sized.isEmpty());
+
+        //the default policy halves at quarter occupancy
+        for (int i = 0; i < 64; i++) {
+            sized.addBack(i);
+        }
+        int fullCapacity = sized.capacity();
+        while (sized.size() > fullCapacity / 4 + 1) {
+            sized.removeFront();
+            assertEquals(fullCapacity, sized.capacity());
+        }
+        sized.removeFront();
+        assertEquals(fullCapacity / 2, sized.capacity());
+        assertEquals(64 - sized.size(), sized.get(0));
+
+        //NEVER keeps the capacity while draining
+        sized.setShrinkPolicy(ArrayIntList.ShrinkPolicy.NEVER);
+        int keptCapacity = sized.capacity();
+        while (!sized.isEmpty()) {
+            sized.removeBack();
+        }
+        assertEquals(keptCapacity, sized.capacity());
+    }
+
+    /**
+     * Test intIterator(), forEachInt() and the boxed for-each loop
+     * visit the same values in order
+     */
+    @Test
+    public void intIteratorTest() {
+        array.clear();
+        assertFalse(array.intIterator().hasNext());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            array.addBack(i);
+        }
+
+        PrimitiveIterator.OfInt itr = array.intIterator();
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertTrue(itr.hasNext());
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertThrows(NoSuchElementException.class, itr::nextInt);
+
+        int[] visited = new int[1];
+        array.forEachInt(value -> assertEquals(visited[0]++, value));
+        assertEquals(ITERATIONS + 1, visited[0]);
+
+        int expected = 0;
+        for (int value : array) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(ITERATIONS + 1, expected);
+    }
+
+    /**
+     * Test intStream(), parallelIntStream() and that the spliterator
+     * splits into parts that together cover the whole list
+     */
+    @Test
+    public void intStreamTest() {
+        array.clear();
+        assertEquals(0, array.intStream().count());
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            array.addBack(i);
+        }
+        long expectedSum = (long) count * (count - 1) / 2;
+        assertEquals(expectedSum, array.intStream().asLongStream().sum());
+        assertEquals(expectedSum, array.parallelIntStream().asLongStream().sum());
+        assertEquals(count / 2, array.parallelIntStream().filter(v -> v % 2 == 0).count());
+        assertArrayEquals(array.toArray(), array.parallelIntStream().toArray());
+
+        Spliterator.OfInt rest = array.spliterator();
+        assertEquals(count, rest.estimateSize());
+        assertTrue(rest.hasCharacteristics(Spliterator.SIZED));
+        Spliterator.OfInt prefix = rest.trySplit();
+        assertNotNull(prefix);
+        assertEquals(count, prefix.estimateSize() + rest.estimateSize());
+        int[] next = new int[1];
+        prefix.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        rest.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        assertEquals(count, next[0]);
+    }
+
+    /**
+     * Test lastIndexOf() and count() for missing, single and
+     * repeated values
+     */
+    @Test
+    public void lastIndexOfAndCountTest() {
+        array.clear();
+        assertEquals(-1, array.lastIndexOf(ITERATIONS));
+        assertEquals(0, array.count(ITERATIONS));
+
+        for (int i = 0; i < ITERATIONS * 5; i++) {
+            array.addBack(i % ITERATIONS);
+        }
+        array.addBack(ITERATIONS);
+        assertEquals(ITERATIONS * 5, array.lastIndexOf(ITERATIONS));
+        assertEquals(1, array.count(ITERATIONS));
+        assertEquals(ITERATIONS * 4, array.lastIndexOf(0));
+        assertEquals(ITERATIONS * 5 - 1, array.lastIndexOf(ITERATIONS - 1));
+        assertEquals(5, array.count(3));
+        assertEquals(-1, array.lastIndexOf(-ITERATIONS));
+        assertEquals(0, array.count(-ITERATIONS));
+    }
+
     /**
      * Helper method to fill the array in this class
      * @param arr Field array
@@ -0,0 +1,523 @@
+package tests;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import lists.BTreeIntList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for BTreeIntList
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class BTreeIntListTest {
+    private BTreeIntList list = new BTreeIntList();
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test adds Integer values to the front when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addFrontTest() {
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+    /**
+     * Test adds Integer values to the back when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(list.size() - 1));
+        }
+    }
+
+    /**
+     * Test adds Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void addTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.add(i, i);
+            // Index at i incrementing
+            assertEquals(i, list.get(i));
+        }
+
+        for (int i = ITERATIONS; i >= 0; i--) {
+            list.add(i, i);
+            // Index at i decrementing
+            assertEquals(i, list.get(i));
+        }
+
+        //IndexOutOfBoundsException is thrown if -1 is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(-1, ITERATIONS)));
+
+        //IndexOutOfBoundsException is thrown if index larger than
+        // the amount of indices is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, ITERATIONS)));
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeFrontTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeFront();
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeFront();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (list.size() >= 1) {
+                int nextIndex = list.get(1);
+                list.removeFront();
+                assertEquals(nextIndex, list.get(0));
+            } else {
+                list.removeFront();
+                assertTrue(list.isEmpty());
+            }
+        }
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeBack();
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeBack();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.removeFront();
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test removes Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void removeTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with index higher than size of array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(list.size())));
+        assertTrue(list.isEmpty());
+
+        //test with one value in array
+        list.addFront(0);
+        list.remove(0);
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.remove(0);
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test get method returns for empty, almost empty
+     * and exception throw due to Index out of bounds
+     */
+    @Test
+    public void getTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(-1)));
+        assertTrue(list.isEmpty());
+
+        //test with index greater than size of array
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(1)));
+        assertTrue(list.isEmpty());
+
+        //reassign values
+        this.fillArray();
+
+        //test the return values of get()
+        for (int i = 0; i <= ITERATIONS; i++) {
+            int getValue = list.get(i);
+            assertEquals(getValue, list.get(i));
+        }
+    }
+
+    /**
+     * Test contains() for non-existent values, existing values,
+     * against empty list
+     */
+    @Test
+    public void containsTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //Test if empty
+        assertFalse(list.contains(ITERATIONS));
+
+        //Test if value 1 exists
+        list.add(0, 1);
+        assertTrue(list.contains(1));
+
+        //test if Iterations exists
+        this.fillArray();
+        assertTrue(list.contains(ITERATIONS));
+
+        //test if number does not exist
+        assertFalse(list.contains(80085));
+    }
+
+    /**
+     * Test IndexOf() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void IndexOfTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test bounds of IndexOf()
+        assertEquals(-1, list.indexOf(-ITERATIONS));
+
+        //test if indices match value returns of all indices
+        System.out.println(list);
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i, list.indexOf(i));
+        }
+    }
+
+    /**
+     * Test isEmpty() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void isEmptyTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        assertFalse(list.isEmpty());
+    }
+
+    /**
+     * Test size() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void sizeTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i + 1, list.size());
+        }
+    }
+
+    /**
+     * Test clear() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void clearTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Test addAll() and insertAll() at the front, middle and back,
+     * appending a list to itself and an out of range index
+     */
+    @Test
+    public void addAllTest() {
+        list.clear();
+        list.addAll(new int[] {0, 1, 5, 6});
+        list.insertAll(2, new int[] {2, 3, 4});
+        list.insertAll(0, new int[] {});
+        list.insertAll(list.size(), new int[] {7});
+        assertEquals(8, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i));
+        }
+
+        list.addAll(list);
+        assertEquals(16, list.size());
+        assertEquals(7, list.get(15));
+        assertEquals(0, list.get(8));
+
+        //IndexOutOfBoundsException is thrown if index larger than size
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.insertAll(list.size() + 1, new int[] {1})));
+    }
+
+    /**
+     * Test positional edits across many leaves, and that split() and
+     * concat() cut and rejoin the list, checked against an ArrayList
+     */
+    @Test
+    public void splitConcatTest() {
+        BTreeIntList tree = new BTreeIntList();
+        List<Integer> expected = new ArrayList<>();
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            int index = (i * 31) % (expected.size() + 1);
+            tree.add(index, i);
+            expected.add(index, i);
+        }
+        //15000 values in leaves of at most 64 need at least three levels
+        assertTrue(tree.depth() >= 3 && tree.depth() <= 4);
+        for (int i = 0; i < count; i += 7) {
+            assertEquals((int) expected.get(i), tree.get(i));
+        }
+
+        //cut into three, then put them back in a different order
+        BTreeIntList middle = tree.split(count / 3);
+        BTreeIntList last = middle.split(count / 3);
+        assertEquals(count / 3, tree.size());
+        assertEquals(count / 3, middle.size());
+        assertEquals(count - 2 * (count / 3), last.size());
+        assertEquals((int) expected.get(count / 3), middle.get(0));
+        assertEquals((int) expected.get(2 * (count / 3)), last.get(0));
+        last.concat(tree);
+        middle.concat(last);
+        assertTrue(last.isEmpty());
+        List<Integer> rotated = new ArrayList<>(expected.subList(count / 3, count));
+        rotated.addAll(expected.subList(0, count / 3));
+        assertArrayEquals(rotated.stream().mapToInt(Integer::intValue).toArray(),
+                middle.toArray());
+
+        //splitting at the ends leaves one side empty
+        assertTrue(middle.split(count).isEmpty());
+        BTreeIntList all = middle.split(0);
+        assertTrue(middle.isEmpty());
+        assertEquals(count, all.size());
+        setException(assertThrows(IllegalArgumentException.class, () -> all.concat(all)));
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> all.split(count + 1)));
+
+        //removals shrink the tree back down
+        while (all.size() > ITERATIONS) {
+            all.remove(all.size() / 2);
+            rotated.remove(rotated.size() / 2);
+        }
+        assertEquals(1, all.depth());
+        assertArrayEquals(rotated.stream().mapToInt(Integer::intValue).toArray(),
+                all.toArray());
+        assertEquals(rotated.lastIndexOf(rotated.get(0)), all.lastIndexOf(rotated.get(0)));
+    }
+
+    /**
+     * Test intIterator(), forEachInt() and the boxed for-each loop
+     * visit the same values in order
+     */
+    @Test
+    public void intIteratorTest() {
+        list.clear();
+        assertFalse(list.intIterator().hasNext());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertTrue(itr.hasNext());
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertThrows(NoSuchElementException.class, itr::nextInt);
+
+        int[] visited = new int[1];
+        list.forEachInt(value -> assertEquals(visited[0]++, value));
+        assertEquals(ITERATIONS + 1, visited[0]);
+
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(ITERATIONS + 1, expected);
+    }
+
+    /**
+     * Test intStream(), parallelIntStream() and that the spliterator
+     * splits into parts that together cover the whole list
+     */
+    @Test
+    public void intStreamTest() {
+        list.clear();
+        assertEquals(0, list.intStream().count());
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            list.addBack(i);
+        }
+        long expectedSum = (long) count * (count - 1) / 2;
+        assertEquals(expectedSum, list.intStream().asLongStream().sum());
+        assertEquals(expectedSum, list.parallelIntStream().asLongStream().sum());
+        assertEquals(count / 2, list.parallelIntStream().filter(v -> v % 2 == 0).count());
+        assertArrayEquals(list.toArray(), list.parallelIntStream().toArray());
+
+        Spliterator.OfInt rest = list.spliterator();
+        assertEquals(count, rest.estimateSize());
+        assertTrue(rest.hasCharacteristics(Spliterator.SIZED));
+        Spliterator.OfInt prefix = rest.trySplit();
+        assertNotNull(prefix);
+        assertEquals(count, prefix.estimateSize() + rest.estimateSize());
+        int[] next = new int[1];
+        prefix.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        rest.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        assertEquals(count, next[0]);
+    }
+
+    /**
+     * Test lastIndexOf() and count() for missing, single and repeated
+     * values in one leaf, across the leaf chain of a deeper tree, and
+     * on the pieces of a split() and their concat(), checked against
+     * an ArrayList
+     */
+    @Test
+    public void lastIndexOfAndCountTest() {
+        list.clear();
+        List<Integer> expected = new ArrayList<>();
+        assertEquals(-1, list.lastIndexOf(ITERATIONS));
+        assertEquals(0, list.count(ITERATIONS));
+
+        //one leaf
+        for (int i = 0; i < BTreeIntList.LEAF_CAPACITY; i++) {
+            list.addBack(i % ITERATIONS);
+            expected.add(i % ITERATIONS);
+        }
+        assertEquals(1, list.depth());
+        assertEquals(expected.lastIndexOf(0), list.lastIndexOf(0));
+        assertEquals(Collections.frequency(expected, 0), list.count(0));
+
+        //repeats one longer than a leaf, so matches fall on every offset
+        int period = BTreeIntList.LEAF_CAPACITY + 1;
+        for (int i = expected.size(); i < BTreeIntList.LEAF_CAPACITY * BTreeIntList.BRANCHING * 2; i++) {
+            list.addBack(i % period);
+            expected.add(i % period);
+        }
+        assertTrue(list.depth() >= 3);
+        for (int value = -1; value <= period; value += 8) {
+            assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+            assertEquals(Collections.frequency(expected, value), list.count(value));
+        }
+
+        //the leaf chains of both pieces end where the tree was cut
+        int cut = expected.size() / 3 + 1;
+        BTreeIntList upper = list.split(cut);
+        List<Integer> expectedUpper = new ArrayList<>(expected.subList(cut, expected.size()));
+        List<Integer> expectedLower = new ArrayList<>(expected.subList(0, cut));
+        for (int value = -1; value <= period; value += 8) {
+            assertEquals(expectedLower.lastIndexOf(value), list.lastIndexOf(value));
+            assertEquals(Collections.frequency(expectedLower, value), list.count(value));
+            assertEquals(expectedUpper.lastIndexOf(value), upper.lastIndexOf(value));
+            assertEquals(Collections.frequency(expectedUpper, value), upper.count(value));
+        }
+        list.concat(upper);
+        for (int value = -1; value <= period; value += 8) {
+            assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+            assertEquals(Collections.frequency(expected, value), list.count(value));
+        }
+    }
+
+    /**
+     * Helper method to fill the array in this class
+     */
+    public void fillArray() {
+        //reassign values
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+}
\ No newline at end of file
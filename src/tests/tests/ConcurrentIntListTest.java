@@ -0,0 +1,532 @@
+package tests;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lists.ConcurrentIntList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for ConcurrentIntList
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class ConcurrentIntListTest {
+    private ConcurrentIntList list = new ConcurrentIntList();
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test adds Integer values to the front when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addFrontTest() {
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+    /**
+     * Test adds Integer values to the back when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(list.size() - 1));
+        }
+    }
+
+    /**
+     * Test adds Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void addTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.add(i, i);
+            // Index at i incrementing
+            assertEquals(i, list.get(i));
+        }
+
+        for (int i = ITERATIONS; i >= 0; i--) {
+            list.add(i, i);
+            // Index at i decrementing
+            assertEquals(i, list.get(i));
+        }
+
+        //IndexOutOfBoundsException is thrown if -1 is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(-1, ITERATIONS)));
+
+        //IndexOutOfBoundsException is thrown if index larger than
+        // the amount of indices is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, ITERATIONS)));
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeFrontTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeFront();
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeFront();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (list.size() >= 1) {
+                int nextIndex = list.get(1);
+                list.removeFront();
+                assertEquals(nextIndex, list.get(0));
+            } else {
+                list.removeFront();
+                assertTrue(list.isEmpty());
+            }
+        }
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeBack();
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeBack();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.removeFront();
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test removes Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void removeTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with index higher than size of array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(list.size())));
+        assertTrue(list.isEmpty());
+
+        //test with one value in array
+        list.addFront(0);
+        list.remove(0);
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.remove(0);
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test get method returns for empty, almost empty
+     * and exception throw due to Index out of bounds
+     */
+    @Test
+    public void getTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(-1)));
+        assertTrue(list.isEmpty());
+
+        //test with index greater than size of array
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(1)));
+        assertTrue(list.isEmpty());
+
+        //reassign values
+        this.fillArray();
+
+        //test the return values of get()
+        for (int i = 0; i <= ITERATIONS; i++) {
+            int getValue = list.get(i);
+            assertEquals(getValue, list.get(i));
+        }
+    }
+
+    /**
+     * Test contains() for non-existent values, existing values,
+     * against empty list
+     */
+    @Test
+    public void containsTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //Test if empty
+        assertFalse(list.contains(ITERATIONS));
+
+        //Test if value 1 exists
+        list.add(0, 1);
+        assertTrue(list.contains(1));
+
+        //test if Iterations exists
+        this.fillArray();
+        assertTrue(list.contains(ITERATIONS));
+
+        //test if number does not exist
+        assertFalse(list.contains(80085));
+    }
+
+    /**
+     * Test IndexOf() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void IndexOfTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test bounds of IndexOf()
+        assertEquals(-1, list.indexOf(-ITERATIONS));
+
+        //test if indices match value returns of all indices
+        System.out.println(list);
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i, list.indexOf(i));
+        }
+    }
+
+    /**
+     * Test isEmpty() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void isEmptyTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        assertFalse(list.isEmpty());
+    }
+
+    /**
+     * Test size() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void sizeTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i + 1, list.size());
+        }
+    }
+
+    /**
+     * Test clear() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void clearTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Test addAll() and insertAll() at the front, middle and back,
+     * appending a list to itself and an out of range index
+     */
+    @Test
+    public void addAllTest() {
+        list.clear();
+        list.addAll(new int[] {0, 1, 5, 6});
+        list.insertAll(2, new int[] {2, 3, 4});
+        list.insertAll(0, new int[] {});
+        list.insertAll(list.size(), new int[] {7});
+        assertEquals(8, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i));
+        }
+
+        list.addAll(list);
+        assertEquals(16, list.size());
+        assertEquals(7, list.get(15));
+        assertEquals(0, list.get(8));
+
+        //IndexOutOfBoundsException is thrown if index larger than size
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.insertAll(list.size() + 1, new int[] {1})));
+    }
+
+    /**
+     * Test readers never see a half done write while writers grow and
+     * shrink the list. The list always holds 0 to size - 1 in order,
+     * so every value read must equal its index.
+     */
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        ConcurrentIntList shared = new ConcurrentIntList(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < 2; w++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < ITERATIONS * 2000; i++) {
+                    //the writers agree among themselves, readers take no part
+                    synchronized (shared) {
+                        if (i % 3 == 2) {
+                            shared.removeBack();
+                        } else {
+                            shared.addBack(shared.size());
+                        }
+                    }
+                }
+            }));
+        }
+        for (int r = 0; r < 4; r++) {
+            threads.add(new Thread(() -> {
+                while (running.get()) {
+                    int[] snapshot = shared.toArray();
+                    for (int i = 0; i < snapshot.length; i++) {
+                        if (snapshot[i] != i) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    int index = snapshot.length / 2;
+                    int found = shared.indexOf(index);
+                    if (found != index && found != -1) {
+                        failures.incrementAndGet();
+                    }
+                    try {
+                        if (shared.get(index) != index) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (IndexOutOfBoundsException e) {
+                        //a writer removed it after the snapshot
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (int w = 0; w < 2; w++) {
+            threads.get(w).join();
+        }
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, failures.get());
+        int[] values = shared.toArray();
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, values[i]);
+        }
+    }
+
+    /**
+     * Test intIterator(), forEachInt() and the boxed for-each loop
+     * visit the same values in order
+     */
+    @Test
+    public void intIteratorTest() {
+        list.clear();
+        assertFalse(list.intIterator().hasNext());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertTrue(itr.hasNext());
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertThrows(NoSuchElementException.class, itr::nextInt);
+
+        int[] visited = new int[1];
+        list.forEachInt(value -> assertEquals(visited[0]++, value));
+        assertEquals(ITERATIONS + 1, visited[0]);
+
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(ITERATIONS + 1, expected);
+    }
+
+    /**
+     * Test intStream(), parallelIntStream() and that the spliterator
+     * splits into parts that together cover the whole list
+     */
+    @Test
+    public void intStreamTest() {
+        list.clear();
+        assertEquals(0, list.intStream().count());
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            list.addBack(i);
+        }
+        long expectedSum = (long) count * (count - 1) / 2;
+        assertEquals(expectedSum, list.intStream().asLongStream().sum());
+        assertEquals(expectedSum, list.parallelIntStream().asLongStream().sum());
+        assertEquals(count / 2, list.parallelIntStream().filter(v -> v % 2 == 0).count());
+        assertArrayEquals(list.toArray(), list.parallelIntStream().toArray());
+
+        Spliterator.OfInt rest = list.spliterator();
+        assertEquals(count, rest.estimateSize());
+        assertTrue(rest.hasCharacteristics(Spliterator.SIZED));
+        Spliterator.OfInt prefix = rest.trySplit();
+        assertNotNull(prefix);
+        assertEquals(count, prefix.estimateSize() + rest.estimateSize());
+        int[] next = new int[1];
+        prefix.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        rest.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        assertEquals(count, next[0]);
+    }
+
+    /**
+     * Test lastIndexOf() and count() for missing, single and repeated
+     * values, ignore values left in the buffer past size by removals,
+     * and never report a half done write while another thread keeps
+     * adding and removing a value at the back
+     */
+    @Test
+    public void lastIndexOfAndCountTest() throws InterruptedException {
+        list.clear();
+        assertEquals(-1, list.lastIndexOf(ITERATIONS));
+        assertEquals(0, list.count(ITERATIONS));
+
+        for (int i = 0; i < ITERATIONS * 4; i++) {
+            list.addBack(i % ITERATIONS);
+        }
+        assertEquals(ITERATIONS * 3, list.lastIndexOf(0));
+        assertEquals(4, list.count(0));
+
+        //removed values stay in the buffer past size and must not be found
+        list.addBack(ITERATIONS);
+        list.addBack(ITERATIONS);
+        assertEquals(ITERATIONS * 4 + 1, list.lastIndexOf(ITERATIONS));
+        list.removeBack();
+        list.remove(ITERATIONS * 4);
+        assertEquals(-1, list.lastIndexOf(ITERATIONS));
+        assertEquals(0, list.count(ITERATIONS));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger failures = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                int last = list.lastIndexOf(ITERATIONS);
+                int count = list.count(ITERATIONS);
+                if ((last != -1 && last != ITERATIONS * 4) || count > 1) {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < ITERATIONS * 1000; i++) {
+            list.addBack(ITERATIONS);
+            list.removeBack();
+        }
+        running.set(false);
+        reader.join();
+        assertEquals(0, failures.get());
+        assertEquals(ITERATIONS * 4, list.size());
+    }
+
+    /**
+     * Helper method to fill the array in this class
+     */
+    public void fillArray() {
+        //reassign values
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+}
\ No newline at end of file
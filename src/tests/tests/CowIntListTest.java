@@ -0,0 +1,548 @@
+package tests;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import interfaces.IntList;
+import lists.CowIntList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for CowIntList
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class CowIntListTest {
+    private CowIntList list = new CowIntList();
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test adds Integer values to the front when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addFrontTest() {
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+    /**
+     * Test adds Integer values to the back when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(list.size() - 1));
+        }
+    }
+
+    /**
+     * Test adds Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void addTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.add(i, i);
+            // Index at i incrementing
+            assertEquals(i, list.get(i));
+        }
+
+        for (int i = ITERATIONS; i >= 0; i--) {
+            list.add(i, i);
+            // Index at i decrementing
+            assertEquals(i, list.get(i));
+        }
+
+        //IndexOutOfBoundsException is thrown if -1 is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(-1, ITERATIONS)));
+
+        //IndexOutOfBoundsException is thrown if index larger than
+        // the amount of indices is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, ITERATIONS)));
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeFrontTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeFront();
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeFront();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (list.size() >= 1) {
+                int nextIndex = list.get(1);
+                list.removeFront();
+                assertEquals(nextIndex, list.get(0));
+            } else {
+                list.removeFront();
+                assertTrue(list.isEmpty());
+            }
+        }
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeBack();
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeBack();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.removeFront();
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test removes Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void removeTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with index higher than size of array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(list.size())));
+        assertTrue(list.isEmpty());
+
+        //test with one value in array
+        list.addFront(0);
+        list.remove(0);
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.remove(0);
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test get method returns for empty, almost empty
+     * and exception throw due to Index out of bounds
+     */
+    @Test
+    public void getTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(-1)));
+        assertTrue(list.isEmpty());
+
+        //test with index greater than size of array
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(1)));
+        assertTrue(list.isEmpty());
+
+        //reassign values
+        this.fillArray();
+
+        //test the return values of get()
+        for (int i = 0; i <= ITERATIONS; i++) {
+            int getValue = list.get(i);
+            assertEquals(getValue, list.get(i));
+        }
+    }
+
+    /**
+     * Test contains() for non-existent values, existing values,
+     * against empty list
+     */
+    @Test
+    public void containsTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //Test if empty
+        assertFalse(list.contains(ITERATIONS));
+
+        //Test if value 1 exists
+        list.add(0, 1);
+        assertTrue(list.contains(1));
+
+        //test if Iterations exists
+        this.fillArray();
+        assertTrue(list.contains(ITERATIONS));
+
+        //test if number does not exist
+        assertFalse(list.contains(80085));
+    }
+
+    /**
+     * Test IndexOf() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void IndexOfTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test bounds of IndexOf()
+        assertEquals(-1, list.indexOf(-ITERATIONS));
+
+        //test if indices match value returns of all indices
+        System.out.println(list);
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i, list.indexOf(i));
+        }
+    }
+
+    /**
+     * Test isEmpty() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void isEmptyTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        assertFalse(list.isEmpty());
+    }
+
+    /**
+     * Test size() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void sizeTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i + 1, list.size());
+        }
+    }
+
+    /**
+     * Test clear() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void clearTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Test addAll() and insertAll() at the front, middle and back,
+     * appending a list to itself and an out of range index
+     */
+    @Test
+    public void addAllTest() {
+        list.clear();
+        list.addAll(new int[] {0, 1, 5, 6});
+        list.insertAll(2, new int[] {2, 3, 4});
+        list.insertAll(0, new int[] {});
+        list.insertAll(list.size(), new int[] {7});
+        assertEquals(8, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i));
+        }
+
+        list.addAll(list);
+        assertEquals(16, list.size());
+        assertEquals(7, list.get(15));
+        assertEquals(0, list.get(8));
+
+        //IndexOutOfBoundsException is thrown if index larger than size
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.insertAll(list.size() + 1, new int[] {1})));
+    }
+
+    /**
+     * Test mutate() publishes a batch all at once or not at all, and
+     * that iterators keep the values they started with
+     */
+    @Test
+    public void mutateTest() throws InterruptedException {
+        list.clear();
+        fillArray();
+        int[] before = list.toArray();
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        Spliterator.OfInt split = list.spliterator();
+
+        list.mutate(working -> {
+            working.clear();
+            for (int i = 0; i < ITERATIONS * 10; i++) {
+                working.addBack(i);
+            }
+            working.removeFront();
+            working.addFront(0);
+        });
+        assertEquals(ITERATIONS * 10, list.size());
+        for (int i = 0; i < ITERATIONS * 10; i++) {
+            assertEquals(i, list.get(i));
+        }
+        for (int value : before) {
+            assertEquals(value, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertEquals(before.length, split.estimateSize());
+
+        //a working copy kept past mutate() cannot reach the published values
+        IntList[] kept = new IntList[1];
+        list.mutate(working -> kept[0] = working);
+        kept[0].addFront(-1);
+        assertEquals(0, list.get(0));
+        assertEquals(ITERATIONS * 10, list.size());
+
+        //a batch that throws leaves the list as it was
+        int[] published = list.toArray();
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> list.mutate(working -> {
+            working.clear();
+            working.remove(0);
+        })));
+        assertArrayEquals(published, list.toArray());
+
+        //readers only ever see whole batches: size() copies of size()
+        CowIntList shared = new CowIntList();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger failures = new AtomicInteger();
+        Thread writer = new Thread(() -> {
+            for (int n = 1; n <= ITERATIONS * 20; n++) {
+                int size = n;
+                shared.mutate(working -> {
+                    working.clear();
+                    for (int i = 0; i < size; i++) {
+                        working.addBack(size);
+                    }
+                });
+            }
+        });
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            readers.add(new Thread(() -> {
+                while (running.get()) {
+                    int[] snapshot = shared.toArray();
+                    for (int value : snapshot) {
+                        if (value != snapshot.length) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    int size = shared.size();
+                    if (size > 0 && shared.get(size - 1) < size) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.start();
+        writer.join();
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertEquals(0, failures.get());
+        assertEquals(ITERATIONS * 20, shared.count(ITERATIONS * 20));
+    }
+
+    /**
+     * Test intIterator(), forEachInt() and the boxed for-each loop
+     * visit the same values in order
+     */
+    @Test
+    public void intIteratorTest() {
+        list.clear();
+        assertFalse(list.intIterator().hasNext());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertTrue(itr.hasNext());
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertThrows(NoSuchElementException.class, itr::nextInt);
+
+        int[] visited = new int[1];
+        list.forEachInt(value -> assertEquals(visited[0]++, value));
+        assertEquals(ITERATIONS + 1, visited[0]);
+
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(ITERATIONS + 1, expected);
+    }
+
+    /**
+     * Test intStream(), parallelIntStream() and that the spliterator
+     * splits into parts that together cover the whole list
+     */
+    @Test
+    public void intStreamTest() {
+        list.clear();
+        assertEquals(0, list.intStream().count());
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            list.addBack(i);
+        }
+        long expectedSum = (long) count * (count - 1) / 2;
+        assertEquals(expectedSum, list.intStream().asLongStream().sum());
+        assertEquals(expectedSum, list.parallelIntStream().asLongStream().sum());
+        assertEquals(count / 2, list.parallelIntStream().filter(v -> v % 2 == 0).count());
+        assertArrayEquals(list.toArray(), list.parallelIntStream().toArray());
+
+        Spliterator.OfInt rest = list.spliterator();
+        assertEquals(count, rest.estimateSize());
+        assertTrue(rest.hasCharacteristics(Spliterator.SIZED));
+        Spliterator.OfInt prefix = rest.trySplit();
+        assertNotNull(prefix);
+        assertEquals(count, prefix.estimateSize() + rest.estimateSize());
+        int[] next = new int[1];
+        prefix.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        rest.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        assertEquals(count, next[0]);
+    }
+
+    /**
+     * Test lastIndexOf() and count() for missing, single and repeated
+     * values, that they do not see changes to the array the list was
+     * built from, and that during mutate() they see the published values
+     * while the working copy sees the edits
+     */
+    @Test
+    public void lastIndexOfAndCountTest() {
+        list.clear();
+        assertEquals(-1, list.lastIndexOf(ITERATIONS));
+        assertEquals(0, list.count(ITERATIONS));
+
+        int[] source = new int[ITERATIONS * 4];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = i % ITERATIONS;
+        }
+        CowIntList copied = new CowIntList(source);
+        source[source.length - 1] = 0;
+        assertEquals(ITERATIONS * 3, copied.lastIndexOf(0));
+        assertEquals(4, copied.count(0));
+        assertEquals(ITERATIONS * 4 - 1, copied.lastIndexOf(ITERATIONS - 1));
+
+        copied.mutate(working -> {
+            working.addBack(ITERATIONS);
+            working.addBack(ITERATIONS);
+            working.removeFront();
+            assertEquals(ITERATIONS * 4, working.lastIndexOf(ITERATIONS));
+            assertEquals(2, working.count(ITERATIONS));
+            //nothing is published until the edits return
+            assertEquals(-1, copied.lastIndexOf(ITERATIONS));
+            assertEquals(4, copied.count(0));
+        });
+        assertEquals(ITERATIONS * 4, copied.lastIndexOf(ITERATIONS));
+        assertEquals(2, copied.count(ITERATIONS));
+        assertEquals(3, copied.count(0));
+        assertEquals(ITERATIONS * 3 - 1, copied.lastIndexOf(0));
+        assertEquals(-1, copied.lastIndexOf(-ITERATIONS));
+        assertEquals(0, copied.count(-ITERATIONS));
+    }
+
+    /**
+     * Helper method to fill the array in this class
+     */
+    public void fillArray() {
+        //reassign values
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+}
\ No newline at end of file
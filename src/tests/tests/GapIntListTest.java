@@ -0,0 +1,519 @@
+package tests;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import lists.GapIntList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for GapIntList
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class GapIntListTest {
+    private GapIntList list = new GapIntList();
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test adds Integer values to the front when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addFrontTest() {
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+    /**
+     * Test adds Integer values to the back when empty, almost empty,
+     * not empty and when buffer is larger than intial size of 10 is
+     * surpassed.
+     */
+    @Test
+    public void addBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(list.size() - 1));
+        }
+    }
+
+    /**
+     * Test adds Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void addTest() {
+        list.clear();
+        assertEquals(0, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.add(i, i);
+            // Index at i incrementing
+            assertEquals(i, list.get(i));
+        }
+
+        for (int i = ITERATIONS; i >= 0; i--) {
+            list.add(i, i);
+            // Index at i decrementing
+            assertEquals(i, list.get(i));
+        }
+
+        //IndexOutOfBoundsException is thrown if -1 is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(-1, ITERATIONS)));
+
+        //IndexOutOfBoundsException is thrown if index larger than
+        // the amount of indices is called
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, ITERATIONS)));
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeFrontTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeFront();
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeFront();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (list.size() >= 1) {
+                int nextIndex = list.get(1);
+                list.removeFront();
+                assertEquals(nextIndex, list.get(0));
+            } else {
+                list.removeFront();
+                assertTrue(list.isEmpty());
+            }
+        }
+    }
+
+    /**
+     * Test removes Integer values from the front of ArrayIntList when
+     * empty, almost empty and not empty
+     */
+    @Test
+    public void removeBackTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        list.removeBack();
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with 1 value in array
+        list.addFront(ITERATIONS);
+        list.removeBack();
+        assertTrue(list.isEmpty());
+
+        /* Check that next index value is now equal to index 0
+           after the first index is removed */
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.removeFront();
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test removes Integer values at specific index when empty, almost
+     * empty,not empty and when buffer is larger than intial size of
+     * 10 is surpassed.
+     */
+    @Test
+    public void removeTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        assertTrue(list.isEmpty());
+
+        //test with index higher than size of array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(list.size())));
+        assertTrue(list.isEmpty());
+
+        //test with one value in array
+        list.addFront(0);
+        list.remove(0);
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+
+        fillArray();
+        for (int i = 0; i < ITERATIONS; i++) {
+            int removedValue = list.get(1);
+            list.remove(0);
+            assertEquals(removedValue, list.get(0));
+        }
+    }
+
+    /**
+     * Test get method returns for empty, almost empty
+     * and exception throw due to Index out of bounds
+     */
+    @Test
+    public void getTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(-1)));
+        assertTrue(list.isEmpty());
+
+        //test with index greater than size of array
+        //test with empty array
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(1)));
+        assertTrue(list.isEmpty());
+
+        //reassign values
+        this.fillArray();
+
+        //test the return values of get()
+        for (int i = 0; i <= ITERATIONS; i++) {
+            int getValue = list.get(i);
+            assertEquals(getValue, list.get(i));
+        }
+    }
+
+    /**
+     * Test contains() for non-existent values, existing values,
+     * against empty list
+     */
+    @Test
+    public void containsTest() {
+        list.clear();
+        assertEquals(0, list.size());
+
+        //Test if empty
+        assertFalse(list.contains(ITERATIONS));
+
+        //Test if value 1 exists
+        list.add(0, 1);
+        assertTrue(list.contains(1));
+
+        //test if Iterations exists
+        this.fillArray();
+        assertTrue(list.contains(ITERATIONS));
+
+        //test if number does not exist
+        assertFalse(list.contains(80085));
+    }
+
+    /**
+     * Test IndexOf() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void IndexOfTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test bounds of IndexOf()
+        assertEquals(-1, list.indexOf(-ITERATIONS));
+
+        //test if indices match value returns of all indices
+        System.out.println(list);
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i, list.indexOf(i));
+        }
+    }
+
+    /**
+     * Test isEmpty() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void isEmptyTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        assertFalse(list.isEmpty());
+    }
+
+    /**
+     * Test size() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void sizeTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i + 1, list.size());
+        }
+    }
+
+    /**
+     * Test clear() for no values, some values,
+     * against empty list
+     */
+    @Test
+    public void clearTest() {
+        //saftey check
+        list.clear();
+        assertEquals(0, list.size());
+
+        //test against non-empty array
+        this.fillArray();
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Test addAll() and insertAll() at the front, middle and back,
+     * appending a list to itself and an out of range index
+     */
+    @Test
+    public void addAllTest() {
+        list.clear();
+        list.addAll(new int[] {0, 1, 5, 6});
+        list.insertAll(2, new int[] {2, 3, 4});
+        list.insertAll(0, new int[] {});
+        list.insertAll(list.size(), new int[] {7});
+        assertEquals(8, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i));
+        }
+
+        list.addAll(list);
+        assertEquals(16, list.size());
+        assertEquals(7, list.get(15));
+        assertEquals(0, list.get(8));
+
+        //IndexOutOfBoundsException is thrown if index larger than size
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.insertAll(list.size() + 1, new int[] {1})));
+    }
+
+    /**
+     * Test typing, backspace and delete at a moving cursor keep the gap
+     * at the cursor, and that jumps and growth keep the values in order,
+     * checked against an ArrayList
+     */
+    @Test
+    public void gapTest() {
+        GapIntList text = new GapIntList(4);
+        List<Integer> expected = new ArrayList<>();
+        int cursor = 0;
+        for (int i = 0; i < ITERATIONS * 20; i++) {
+            //type two values, backspace one, delete one after the cursor
+            text.add(cursor, i);
+            expected.add(cursor, i);
+            text.add(cursor + 1, -i);
+            expected.add(cursor + 1, -i);
+            cursor += 2;
+            assertEquals(cursor, text.gapIndex());
+            assertEquals((int) expected.remove(cursor - 1), text.remove(cursor - 1));
+            cursor--;
+            assertEquals(cursor, text.gapIndex());
+            if (cursor < expected.size()) {
+                assertEquals((int) expected.remove(cursor), text.remove(cursor));
+                assertEquals(cursor, text.gapIndex());
+            }
+            //now and then jump the cursor somewhere else
+            if (i % 7 == 0) {
+                cursor = (i * 13) % (expected.size() + 1);
+            }
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(),
+                text.toArray());
+
+        //set() and bulk inserts around the gap
+        assertEquals((int) expected.get(1), text.set(1, ITERATIONS));
+        expected.set(1, ITERATIONS);
+        text.insertAll(2, new int[] {-1, -2, -3});
+        expected.addAll(2, List.of(-1, -2, -3));
+        assertEquals(5, text.gapIndex());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((int) expected.get(i), text.get(i));
+            assertEquals(expected.indexOf(expected.get(i)), text.indexOf(expected.get(i)));
+            assertEquals(expected.lastIndexOf(expected.get(i)),
+                    text.lastIndexOf(expected.get(i)));
+        }
+
+        text.trimToSize();
+        assertEquals(expected.size(), text.capacity());
+        text.addFront(ITERATIONS);
+        expected.add(0, ITERATIONS);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(),
+                text.toArray());
+        setException(assertThrows(IllegalArgumentException.class, () -> new GapIntList(-1)));
+    }
+
+    /**
+     * Test intIterator(), forEachInt() and the boxed for-each loop
+     * visit the same values in order
+     */
+    @Test
+    public void intIteratorTest() {
+        list.clear();
+        assertFalse(list.intIterator().hasNext());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertTrue(itr.hasNext());
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertThrows(NoSuchElementException.class, itr::nextInt);
+
+        int[] visited = new int[1];
+        list.forEachInt(value -> assertEquals(visited[0]++, value));
+        assertEquals(ITERATIONS + 1, visited[0]);
+
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(ITERATIONS + 1, expected);
+    }
+
+    /**
+     * Test intStream(), parallelIntStream() and that the spliterator
+     * splits into parts that together cover the whole list
+     */
+    @Test
+    public void intStreamTest() {
+        list.clear();
+        assertEquals(0, list.intStream().count());
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            list.addBack(i);
+        }
+        long expectedSum = (long) count * (count - 1) / 2;
+        assertEquals(expectedSum, list.intStream().asLongStream().sum());
+        assertEquals(expectedSum, list.parallelIntStream().asLongStream().sum());
+        assertEquals(count / 2, list.parallelIntStream().filter(v -> v % 2 == 0).count());
+        assertArrayEquals(list.toArray(), list.parallelIntStream().toArray());
+
+        Spliterator.OfInt rest = list.spliterator();
+        assertEquals(count, rest.estimateSize());
+        assertTrue(rest.hasCharacteristics(Spliterator.SIZED));
+        Spliterator.OfInt prefix = rest.trySplit();
+        assertNotNull(prefix);
+        assertEquals(count, prefix.estimateSize() + rest.estimateSize());
+        int[] next = new int[1];
+        prefix.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        rest.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        assertEquals(count, next[0]);
+    }
+
+    /**
+     * Test lastIndexOf() and count() for missing, single and repeated
+     * values with the gap at the back, the front and the middle, and
+     * with matches right before and right after the gap, checked
+     * against an ArrayList
+     */
+    @Test
+    public void lastIndexOfAndCountTest() {
+        list.clear();
+        List<Integer> expected = new ArrayList<>();
+        assertEquals(-1, list.lastIndexOf(ITERATIONS));
+        assertEquals(0, list.count(ITERATIONS));
+
+        //appends leave the gap at the back
+        for (int i = 0; i < ITERATIONS * 4; i++) {
+            list.addBack(i % ITERATIONS);
+            expected.add(i % ITERATIONS);
+        }
+        assertEquals(list.size(), list.gapIndex());
+        assertEquals(ITERATIONS * 3, list.lastIndexOf(0));
+        assertEquals(4, list.count(0));
+
+        //a match right before the gap in the middle
+        list.add(ITERATIONS * 2, ITERATIONS);
+        expected.add(ITERATIONS * 2, ITERATIONS);
+        assertEquals(ITERATIONS * 2 + 1, list.gapIndex());
+        assertEquals(ITERATIONS * 2, list.lastIndexOf(ITERATIONS));
+        assertEquals(1, list.count(ITERATIONS));
+
+        //a match before the gap at the front and one right after it
+        list.addFront(ITERATIONS);
+        expected.add(0, ITERATIONS);
+        assertEquals(1, list.gapIndex());
+        assertEquals(ITERATIONS * 2 + 1, list.lastIndexOf(ITERATIONS));
+        assertEquals(2, list.count(ITERATIONS));
+
+        //removing the later match leaves only the one before the gap
+        assertEquals(ITERATIONS, list.remove(ITERATIONS * 2 + 1));
+        expected.remove(ITERATIONS * 2 + 1);
+        assertEquals(ITERATIONS * 2 + 1, list.gapIndex());
+        assertEquals(0, list.lastIndexOf(ITERATIONS));
+        assertEquals(1, list.count(ITERATIONS));
+        for (int value = -1; value <= ITERATIONS; value++) {
+            assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+            assertEquals(Collections.frequency(expected, value), list.count(value));
+        }
+    }
+
+    /**
+     * Helper method to fill the array in this class
+     */
+    public void fillArray() {
+        //reassign values
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addFront(i);
+            // Index 0 changes everytime addFront is called
+            assertEquals(i, list.get(0));
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package tests;
+import lists.IntSearch;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for IntSearch
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class IntSearchTest {
+    public static final int ITERATIONS = 15;
+
+    /**
+     * Test the searches run on the path the build asked for: surefire
+     * runs this class once vectorized and once on the scalar loops
+     */
+    @Test
+    public void searchPathTest() {
+        assertEquals(Boolean.getBoolean("lists.expectVectorSearch"), IntSearch.isVectorized());
+    }
+
+    /**
+     * Test indexOf(), lastIndexOf() and count() against plain loops for
+     * every range length up to several vectors, so both the vector loop
+     * and the leftover values at the ends are covered
+     */
+    @Test
+    public void searchTest() {
+        int[] values = new int[ITERATIONS * 8];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 7;
+        }
+        for (int from = 0; from < ITERATIONS; from++) {
+            for (int to = from; to <= values.length; to++) {
+                for (int value = -1; value < 7; value++) {
+                    int first = -1;
+                    int last = -1;
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        if (values[i] == value) {
+                            first = first < 0 ? i : first;
+                            last = i;
+                            count++;
+                        }
+                    }
+                    assertEquals(first, IntSearch.indexOf(values, from, to, value));
+                    assertEquals(last, IntSearch.lastIndexOf(values, from, to, value));
+                    assertEquals(count, IntSearch.count(values, from, to, value));
+                }
+            }
+        }
+    }
+}
@@ -1,4 +1,8 @@
 package tests;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import lists.ArrayIntList;
 import lists.LinkedIntList;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -310,6 +314,265 @@ public class LinkedIntListTest {
         assertEquals(0, list.size());
     }
 
+    /**
+     * Test addAll() and insertAll() at the front, middle and back,
+     * appending a list to itself and an out of range index
+     */
+    @Test
+    public void addAllTest() {
+        list.clear();
+        list.addAll(new int[] {0, 1, 5, 6});
+        list.insertAll(2, new int[] {2, 3, 4});
+        list.insertAll(0, new int[] {});
+        list.insertAll(list.size(), new int[] {7});
+        assertEquals(8, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i));
+        }
+
+        list.addAll(list);
+        assertEquals(16, list.size());
+        assertEquals(7, list.get(15));
+        assertEquals(0, list.get(8));
+
+        //IndexOutOfBoundsException is thrown if index larger than size
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.insertAll(list.size() + 1, new int[] {1})));
+    }
+
+    /**
+     * Test intIterator(), forEachInt() and the boxed for-each loop
+     * visit the same values in order
+     */
+    @Test
+    public void intIteratorTest() {
+        list.clear();
+        assertFalse(list.intIterator().hasNext());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertTrue(itr.hasNext());
+            assertEquals(i, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertThrows(NoSuchElementException.class, itr::nextInt);
+
+        int[] visited = new int[1];
+        list.forEachInt(value -> assertEquals(visited[0]++, value));
+        assertEquals(ITERATIONS + 1, visited[0]);
+
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(ITERATIONS + 1, expected);
+    }
+
+    /**
+     * Test intStream(), parallelIntStream() and that the spliterator
+     * splits into parts that together cover the whole list
+     */
+    @Test
+    public void intStreamTest() {
+        list.clear();
+        assertEquals(0, list.intStream().count());
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            list.addBack(i);
+        }
+        long expectedSum = (long) count * (count - 1) / 2;
+        assertEquals(expectedSum, list.intStream().asLongStream().sum());
+        assertEquals(expectedSum, list.parallelIntStream().asLongStream().sum());
+        assertEquals(count / 2, list.parallelIntStream().filter(v -> v % 2 == 0).count());
+        assertArrayEquals(list.toArray(), list.parallelIntStream().toArray());
+
+        Spliterator.OfInt rest = list.spliterator();
+        assertEquals(count, rest.estimateSize());
+        assertTrue(rest.hasCharacteristics(Spliterator.SIZED));
+        Spliterator.OfInt prefix = rest.trySplit();
+        assertNotNull(prefix);
+        assertEquals(count, prefix.estimateSize() + rest.estimateSize());
+        int[] next = new int[1];
+        prefix.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        rest.forEachRemaining((int value) -> assertEquals(next[0]++, value));
+        assertEquals(count, next[0]);
+    }
+
+    /**
+     * Test lastIndexOf() and count() for missing, single and
+     * repeated values
+     */
+    @Test
+    public void lastIndexOfAndCountTest() {
+        list.clear();
+        assertEquals(-1, list.lastIndexOf(ITERATIONS));
+        assertEquals(0, list.count(ITERATIONS));
+
+        for (int i = 0; i < ITERATIONS * 5; i++) {
+            list.addBack(i % ITERATIONS);
+        }
+        list.addBack(ITERATIONS);
+        assertEquals(ITERATIONS * 5, list.lastIndexOf(ITERATIONS));
+        assertEquals(1, list.count(ITERATIONS));
+        assertEquals(ITERATIONS * 4, list.lastIndexOf(0));
+        assertEquals(ITERATIONS * 5 - 1, list.lastIndexOf(ITERATIONS - 1));
+        assertEquals(5, list.count(3));
+        assertEquals(-1, list.lastIndexOf(-ITERATIONS));
+        assertEquals(0, list.count(-ITERATIONS));
+    }
+
+    /**
+     * Test the tail and cursor stay correct through appends, back
+     * removals and indexed access in both directions
+     */
+    @Test
+    public void tailAndCursorTest() {
+        list.clear();
+        int count = ITERATIONS * 1000;
+        for (int i = 0; i < count; i++) {
+            list.addBack(i);
+        }
+        //sequential and backwards indexed access
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, list.get(i));
+        }
+        for (int i = count - 1; i >= 0; i -= ITERATIONS) {
+            assertEquals(i, list.get(i));
+        }
+
+        //edits near the cursor keep later indices correct
+        list.get(ITERATIONS);
+        list.addFront(-1);
+        assertEquals(ITERATIONS, list.get(ITERATIONS + 1));
+        list.removeFront();
+        list.add(ITERATIONS, -1);
+        assertEquals(-1, list.get(ITERATIONS));
+        assertEquals(-1, list.remove(ITERATIONS));
+        assertEquals(ITERATIONS, list.get(ITERATIONS));
+
+        //removing the last values moves the tail back
+        list.removeBack();
+        assertEquals(count - 2, list.remove(list.size() - 1));
+        list.addBack(-2);
+        assertEquals(-2, list.get(list.size() - 1));
+        assertEquals(count - 3, list.get(list.size() - 2));
+        assertEquals(count - 1, list.size());
+
+        while (!list.isEmpty()) {
+            list.removeFront();
+        }
+        list.addBack(ITERATIONS);
+        assertEquals(ITERATIONS, list.get(0));
+    }
+
+    /**
+     * Test removed nodes are reused by later insertions, the pool stays
+     * within its capacity and the counters track hits and misses
+     */
+    @Test
+    public void nodePoolTest() {
+        setException(assertThrows(IllegalArgumentException.class,
+                () -> new LinkedIntList(-1)));
+        assertEquals(0, list.pooledNodes());
+
+        LinkedIntList pooled = new LinkedIntList(ITERATIONS);
+        for (int i = 0; i < ITERATIONS * 2; i++) {
+            pooled.addBack(i);
+        }
+        assertEquals(0, pooled.poolHits());
+        assertEquals(ITERATIONS * 2, pooled.poolMisses());
+
+        //removals fill the pool up to its capacity
+        for (int i = 0; i < ITERATIONS * 2; i++) {
+            assertEquals(i, pooled.get(0));
+            pooled.removeFront();
+        }
+        assertEquals(ITERATIONS, pooled.pooledNodes());
+
+        //queue-like churn is served from the pool
+        for (int i = 0; i < ITERATIONS * 100; i++) {
+            pooled.addBack(i);
+            pooled.add(0, -i);
+            assertEquals(-i, pooled.remove(0));
+            assertEquals(i, pooled.get(0));
+            pooled.removeFront();
+        }
+        assertEquals(ITERATIONS * 2, pooled.poolMisses());
+        assertEquals(ITERATIONS * 200, pooled.poolHits());
+
+        //recycled nodes carry no stale values
+        pooled.addAll(new int[] {1, 2, 3});
+        pooled.addFront(0);
+        pooled.removeBack();
+        pooled.add(3, 4);
+        assertArrayEquals(new int[] {0, 1, 2, 4}, pooled.toArray());
+        pooled.clear();
+        assertEquals(ITERATIONS, pooled.pooledNodes());
+        pooled.addBack(5);
+        assertEquals(5, pooled.get(0));
+        assertEquals(1, pooled.size());
+    }
+
+    /**
+     * Test appendAll(), transferAllTo() and splitAt() move whole runs
+     * of nodes and leave both lists usable at both ends
+     */
+    @Test
+    public void spliceTest() {
+        list.clear();
+        LinkedIntList other = new LinkedIntList();
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i);
+            other.addBack(ITERATIONS + i);
+        }
+        list.appendAll(other);
+        assertTrue(other.isEmpty());
+        assertEquals(ITERATIONS * 2, list.size());
+        for (int i = 0; i < ITERATIONS * 2; i++) {
+            assertEquals(i, list.get(i));
+        }
+        setException(assertThrows(IllegalArgumentException.class, () -> list.appendAll(list)));
+
+        //cut off the second half, then the last value
+        LinkedIntList rest = list.splitAt(ITERATIONS);
+        assertEquals(ITERATIONS, list.size());
+        assertEquals(ITERATIONS, rest.size());
+        assertEquals(ITERATIONS - 1, list.get(list.size() - 1));
+        assertEquals(ITERATIONS, rest.get(0));
+        LinkedIntList last = rest.splitAt(ITERATIONS - 1);
+        assertEquals(1, last.size());
+        assertEquals(ITERATIONS * 2 - 1, last.get(0));
+        assertTrue(rest.splitAt(rest.size()).isEmpty());
+        setException(assertThrows(IndexOutOfBoundsException.class,
+                () -> list.splitAt(list.size() + 1)));
+
+        //both halves still work at their ends
+        list.addBack(-1);
+        rest.addFront(-2);
+        rest.removeBack();
+        assertEquals(-1, list.get(ITERATIONS));
+        assertEquals(-2, rest.get(0));
+        assertEquals(ITERATIONS * 2 - 3, rest.get(rest.size() - 1));
+
+        //splitting at 0 moves everything, and transfers go either way
+        LinkedIntList all = rest.splitAt(0);
+        assertTrue(rest.isEmpty());
+        all.transferAllTo(list);
+        assertTrue(all.isEmpty());
+        assertEquals(ITERATIONS * 2, list.size());
+        ArrayIntList copy = new ArrayIntList();
+        list.transferAllTo(copy);
+        assertTrue(list.isEmpty());
+        assertEquals(ITERATIONS * 2, copy.size());
+        assertEquals(-1, copy.get(ITERATIONS));
+        assertEquals(-2, copy.get(ITERATIONS + 1));
+        list.addFront(1);
+        assertEquals(1, list.get(0));
+    }
+
     /**
      * Helper method to fill the array in this class
      */
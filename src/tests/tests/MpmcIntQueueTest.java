@@ -0,0 +1,216 @@
+package tests;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+
+import interfaces.IntList;
+import lists.MpmcIntQueue;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for MpmcIntQueue
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class MpmcIntQueueTest {
+    private MpmcIntQueue queue = new MpmcIntQueue(16);
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test the capacity is rounded up to a power of two and bad
+     * capacities are rejected
+     */
+    @Test
+    public void capacityTest() {
+        assertEquals(16, queue.capacity());
+        assertEquals(2, new MpmcIntQueue(1).capacity());
+        assertEquals(32, new MpmcIntQueue(17).capacity());
+        assertEquals(MpmcIntQueue.DEFAULT_CAPACITY, new MpmcIntQueue().capacity());
+        setException(assertThrows(IllegalArgumentException.class, () -> new MpmcIntQueue(0)));
+        setException(assertThrows(IllegalArgumentException.class, () -> new MpmcIntQueue(-1)));
+    }
+
+    /**
+     * Test offer() and poll() keep first-in first-out order, refuse
+     * values when full and report empty, across many laps of the ring
+     */
+    @Test
+    public void offerPollTest() {
+        assertTrue(queue.isEmpty());
+        assertEquals(OptionalInt.empty(), queue.poll());
+        assertEquals(-1, queue.poll(-1));
+        assertEquals(OptionalInt.empty(), queue.peek());
+
+        for (int lap = 0; lap < ITERATIONS; lap++) {
+            for (int i = 0; i < queue.capacity(); i++) {
+                assertTrue(queue.offer(lap * 100 + i));
+                assertEquals(i + 1, queue.size());
+            }
+            assertFalse(queue.offer(-1));
+            assertEquals(queue.capacity(), queue.size());
+            assertEquals(OptionalInt.of(lap * 100), queue.peek());
+            for (int i = 0; i < queue.capacity(); i++) {
+                if (i % 2 == 0) {
+                    assertEquals(OptionalInt.of(lap * 100 + i), queue.poll());
+                } else {
+                    assertEquals(lap * 100 + i, queue.poll(-1));
+                }
+            }
+            assertTrue(queue.isEmpty());
+            assertEquals(-1, queue.poll(-1));
+        }
+    }
+
+    /**
+     * Test drainTo() removes a run of values in order, no more than fit
+     * or are there, and checks its range
+     */
+    @Test
+    public void drainToTest() {
+        int[] values = new int[10];
+        assertEquals(0, queue.drainTo(values));
+        for (int i = 0; i < ITERATIONS; i++) {
+            queue.offer(i);
+        }
+        assertEquals(10, queue.drainTo(values));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, values[i]);
+        }
+        assertEquals(3, queue.drainTo(values, 2, 3));
+        assertArrayEquals(new int[] {0, 1, 10, 11, 12, 5, 6, 7, 8, 9}, values);
+        assertEquals(2, queue.drainTo(values));
+        assertEquals(13, values[0]);
+        assertEquals(14, values[1]);
+        assertEquals(0, queue.drainTo(values));
+        assertEquals(0, queue.drainTo(values, 10, 0));
+
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> queue.drainTo(values, 8, 3)));
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> queue.drainTo(values, -1, 1)));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            queue.offer(i);
+        }
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.offer(ITERATIONS));
+        assertEquals(ITERATIONS, queue.poll(-1));
+    }
+
+    /**
+     * Test the IntList view works as a queue through addBack(),
+     * get(0) and removeFront(), and refuses everything else
+     */
+    @Test
+    public void asIntListTest() {
+        IntList view = queue.asIntList();
+        assertTrue(view.isEmpty());
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> view.get(0)));
+        view.removeFront();
+
+        for (int i = 0; i <= ITERATIONS; i++) {
+            view.addBack(i);
+        }
+        assertEquals(ITERATIONS + 1, view.size());
+        setException(assertThrows(IllegalStateException.class, () -> view.addBack(-1)));
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertEquals(i, view.get(0));
+            view.removeFront();
+        }
+        assertTrue(view.isEmpty());
+
+        view.addAll(new int[] {1, 2, 3});
+        assertEquals(1, queue.poll(-1));
+        view.clear();
+        assertTrue(queue.isEmpty());
+
+        setException(assertThrows(UnsupportedOperationException.class, () -> view.addFront(1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> view.removeBack()));
+        setException(assertThrows(UnsupportedOperationException.class, () -> view.get(1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> view.intIterator()));
+    }
+
+    /**
+     * Test producers and consumers running at once lose and duplicate
+     * nothing, and that each producer's values come out in order
+     */
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        MpmcIntQueue shared = new MpmcIntQueue(64);
+        int producers = 4;
+        int perProducer = ITERATIONS * 2000;
+        AtomicLong sum = new AtomicLong();
+        AtomicLong taken = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    //values carry their producer in the low bits
+                    while (!shared.offer(i * producers + producer)) {
+                        //give the consumers the CPU on small machines
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < 4; c++) {
+            boolean batches = c % 2 == 0;
+            threads.add(new Thread(() -> {
+                int[] last = new int[producers];
+                Arrays.fill(last, -1);
+                int[] values = new int[8];
+                while (taken.get() < (long) producers * perProducer) {
+                    int count;
+                    if (batches) {
+                        count = shared.drainTo(values);
+                    } else {
+                        int value = shared.poll(-1);
+                        count = value < 0 ? 0 : 1;
+                        values[0] = value;
+                    }
+                    for (int i = 0; i < count; i++) {
+                        int producer = values[i] % producers;
+                        //one consumer sees each producer's values in order
+                        if (values[i] <= last[producer]) {
+                            failures.incrementAndGet();
+                        }
+                        last[producer] = values[i];
+                        sum.addAndGet(values[i]);
+                    }
+                    if (count == 0) {
+                        //give the producers the CPU on small machines
+                        Thread.yield();
+                        continue;
+                    }
+                    taken.addAndGet(count);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long n = (long) producers * perProducer;
+        assertEquals(0, failures.get());
+        assertEquals(n, taken.get());
+        assertEquals(n * (n - 1) / 2, sum.get());
+        assertTrue(shared.isEmpty());
+    }
+
+}
@@ -0,0 +1,187 @@
+package tests;
+import java.util.Arrays;
+import java.util.Random;
+
+import lists.SortedIntList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for SortedIntList
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class SortedIntListTest {
+    private SortedIntList list = new SortedIntList();
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test insert() keeps the values in ascending order no matter
+     * the order they arrive in
+     */
+    @Test
+    public void insertTest() {
+        assertEquals(0, list.size());
+        Random random = new Random(ITERATIONS);
+        int[] expected = new int[ITERATIONS * 10];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(ITERATIONS * 3);
+            list.insert(expected[i]);
+        }
+        Arrays.sort(expected);
+        assertArrayEquals(expected, list.toArray());
+    }
+
+    /**
+     * Test addFront(), addBack() and add() accept values that keep the
+     * order and reject the ones that would break it
+     */
+    @Test
+    public void addTest() {
+        list.clear();
+        list.addBack(5);
+        list.addBack(10);
+        list.addFront(1);
+        list.add(2, 7);
+        list.add(2, 5);
+        assertArrayEquals(new int[] {1, 5, 5, 7, 10}, list.toArray());
+
+        setException(assertThrows(
+                IllegalArgumentException.class, () -> list.addFront(2)));
+        setException(assertThrows(
+                IllegalArgumentException.class, () -> list.addBack(9)));
+        setException(assertThrows(
+                IllegalArgumentException.class, () -> list.add(1, 6)));
+        setException(assertThrows(
+                IllegalArgumentException.class, () -> list.addAll(new int[] {11, 10})));
+        setException(assertThrows(
+                IllegalArgumentException.class, () -> list.insertAll(1, new int[] {2, 6})));
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(-1, 0)));
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.add(list.size() + 1, 99)));
+
+        //rejected adds leave the list unchanged
+        assertArrayEquals(new int[] {1, 5, 5, 7, 10}, list.toArray());
+
+        list.insertAll(1, new int[] {2, 3, 4});
+        list.addAll(new int[] {10, 12});
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 5, 7, 10, 10, 12}, list.toArray());
+    }
+
+    /**
+     * Test addAllSorted() merges with the existing values
+     */
+    @Test
+    public void addAllSortedTest() {
+        list.clear();
+        list.addAllSorted(new int[] {1, 4, 9});
+        list.addAllSorted(new int[] {0, 2, 4, 10, 11});
+        list.addAllSorted(new int[] {});
+        assertArrayEquals(new int[] {0, 1, 2, 4, 4, 9, 10, 11}, list.toArray());
+
+        setException(assertThrows(
+                IllegalArgumentException.class, () -> list.addAllSorted(new int[] {3, 2})));
+        assertEquals(8, list.size());
+    }
+
+    /**
+     * Test indexOf(), contains(), lowerBound(), upperBound()
+     * and rangeCount() with duplicates and missing values
+     */
+    @Test
+    public void searchTest() {
+        list.clear();
+        assertEquals(-1, list.indexOf(ITERATIONS));
+        assertFalse(list.contains(ITERATIONS));
+        assertEquals(0, list.lowerBound(ITERATIONS));
+
+        list.addAll(new int[] {1, 3, 3, 3, 7, 9});
+        assertEquals(1, list.indexOf(3));
+        assertTrue(list.contains(9));
+        assertFalse(list.contains(4));
+        assertEquals(-1, list.indexOf(0));
+        assertEquals(-1, list.indexOf(10));
+
+        assertEquals(1, list.lowerBound(3));
+        assertEquals(4, list.upperBound(3));
+        assertEquals(4, list.lowerBound(4));
+        assertEquals(6, list.upperBound(ITERATIONS));
+
+        assertEquals(3, list.rangeCount(3, 4));
+        assertEquals(4, list.rangeCount(2, 8));
+        assertEquals(6, list.rangeCount(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, list.rangeCount(8, 2));
+    }
+
+    /**
+     * Test removeFront(), removeBack() and remove() on empty
+     * and non-empty lists
+     */
+    @Test
+    public void removeTest() {
+        list.clear();
+        list.removeFront();
+        list.removeBack();
+        assertTrue(list.isEmpty());
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.remove(0)));
+
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.insert(i);
+        }
+        list.removeFront();
+        list.removeBack();
+        assertEquals(1, list.get(0));
+        assertEquals(ITERATIONS - 1, list.get(list.size() - 1));
+        assertEquals(5, list.remove(4));
+        assertEquals(-1, list.indexOf(5));
+        assertEquals(ITERATIONS - 2, list.size());
+    }
+
+    /**
+     * Test get method returns for empty, almost empty
+     * and exception throw due to Index out of bounds
+     */
+    @Test
+    public void getTest() {
+        list.clear();
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(0)));
+        for (int i = ITERATIONS; i >= 0; i--) {
+            list.insert(i);
+        }
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertEquals(i, list.get(i));
+        }
+        setException(assertThrows(
+                IndexOutOfBoundsException.class, () -> list.get(ITERATIONS + 1)));
+    }
+
+    /**
+     * Test iteration and streams see the values in ascending order
+     */
+    @Test
+    public void iterationTest() {
+        list.clear();
+        for (int i = ITERATIONS; i >= 0; i--) {
+            list.insert(i);
+        }
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected++, value);
+        }
+        assertArrayEquals(list.toArray(), list.intStream().sorted().toArray());
+        assertEquals(ITERATIONS * (ITERATIONS + 1) / 2, list.parallelIntStream().sum());
+    }
+}
@@ -0,0 +1,197 @@
+package tests;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lists.SpscRingIntList;
+import lists.SpscRingIntList.WaitStrategy;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for SpscRingIntList
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class SpscRingIntListTest {
+    private SpscRingIntList list = new SpscRingIntList(16, WaitStrategy.BUSY_SPIN);
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test the capacity is rounded up to a power of two and bad
+     * capacities are rejected
+     */
+    @Test
+    public void capacityTest() {
+        assertEquals(16, list.capacity());
+        assertEquals(2, new SpscRingIntList(1, WaitStrategy.YIELD).capacity());
+        assertEquals(32, new SpscRingIntList(17, WaitStrategy.PARK).capacity());
+        assertEquals(SpscRingIntList.DEFAULT_CAPACITY, new SpscRingIntList().capacity());
+        setException(assertThrows(IllegalArgumentException.class,
+                () -> new SpscRingIntList(0, WaitStrategy.YIELD)));
+    }
+
+    /**
+     * Test offer() and poll() keep first-in first-out order, refuse
+     * values when full and report empty, across many laps of the ring
+     */
+    @Test
+    public void offerPollTest() {
+        assertTrue(list.isEmpty());
+        assertEquals(-1, list.poll(-1));
+        for (int lap = 0; lap < ITERATIONS; lap++) {
+            for (int i = 0; i < list.capacity(); i++) {
+                assertTrue(list.offer(lap * 100 + i));
+            }
+            assertFalse(list.offer(-1));
+            assertEquals(list.capacity(), list.size());
+            for (int i = 0; i < list.capacity(); i++) {
+                assertEquals(lap * 100 + i, list.get(i));
+            }
+            for (int i = 0; i < list.capacity(); i++) {
+                if (i % 2 == 0) {
+                    assertEquals(lap * 100 + i, list.poll(-1));
+                } else {
+                    assertEquals(lap * 100 + i, list.take());
+                }
+            }
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    /**
+     * Test publishBatch() and consumeBatch() move runs of values that
+     * wrap around the end of the ring, as many as fit or are there
+     */
+    @Test
+    public void batchTest() {
+        int[] values = new int[ITERATIONS * 2];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        int[] out = new int[values.length];
+        //start part way round so batches wrap
+        for (int i = 0; i < 10; i++) {
+            list.offer(i);
+            list.poll(-1);
+        }
+        assertEquals(0, list.consumeBatch(out));
+        assertEquals(16, list.publishBatch(values, 0, values.length));
+        assertEquals(0, list.publishBatch(values, 16, 4));
+        assertEquals(5, list.consumeBatch(out, 0, 5));
+        assertEquals(5, list.publishBatch(values, 16, 7));
+        assertEquals(16, list.consumeBatch(out, 5, out.length - 5));
+        for (int i = 0; i < 21; i++) {
+            assertEquals(i, out[i]);
+        }
+        assertEquals(0, list.consumeBatch(out));
+        assertEquals(0, list.publishBatch(values, values.length, 0));
+
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> list.publishBatch(values, -1, 1)));
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> list.consumeBatch(out, 1, out.length)));
+    }
+
+    /**
+     * Test the IntList side: addBack(), get(), removeFront(), the
+     * reading methods and clear(), and that the other writes are refused
+     */
+    @Test
+    public void intListTest() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.addBack(i % 5);
+        }
+        assertEquals(ITERATIONS, list.size());
+        assertEquals(2, list.indexOf(2));
+        assertEquals(ITERATIONS - 3, list.lastIndexOf(2));
+        assertEquals(3, list.count(2));
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(5));
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(i % 5, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        assertEquals(2L * ITERATIONS, list.intStream().asLongStream().sum());
+
+        list.removeFront();
+        assertEquals(1, list.get(0));
+        assertEquals(ITERATIONS - 1, list.toArray().length);
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> list.get(ITERATIONS - 1)));
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1)));
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.removeFront();
+        assertTrue(list.isEmpty());
+
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.addFront(1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.add(0, 1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.removeBack()));
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.remove(0)));
+    }
+
+    /**
+     * Test a producer and a consumer running at once, with each wait
+     * strategy and with single and batched calls, lose nothing and keep
+     * the order
+     */
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        WaitStrategy[] strategies = {WaitStrategy.BUSY_SPIN, WaitStrategy.YIELD, WaitStrategy.PARK};
+        for (WaitStrategy strategy : strategies) {
+            SpscRingIntList ring = new SpscRingIntList(64, strategy);
+            int count = ITERATIONS * 2000;
+            AtomicInteger failures = new AtomicInteger();
+            Thread producer = new Thread(() -> {
+                int[] batch = new int[ITERATIONS];
+                int next = 0;
+                while (next < count) {
+                    if (next % 1000 < 500) {
+                        ring.addBack(next++);
+                    } else {
+                        int length = Math.min(batch.length, count - next);
+                        for (int i = 0; i < length; i++) {
+                            batch[i] = next + i;
+                        }
+                        ring.addAll(Arrays.copyOf(batch, length));
+                        next += length;
+                    }
+                }
+            });
+            Thread consumer = new Thread(() -> {
+                int[] batch = new int[ITERATIONS * 2];
+                int expected = 0;
+                while (expected < count) {
+                    if (expected % 2 == 0) {
+                        if (ring.take() != expected++) {
+                            failures.incrementAndGet();
+                        }
+                    } else {
+                        int taken = ring.consumeBatch(batch);
+                        for (int i = 0; i < taken; i++) {
+                            if (batch[i] != expected++) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            });
+            producer.start();
+            consumer.start();
+            producer.join();
+            consumer.join();
+            assertEquals(0, failures.get());
+            assertTrue(ring.isEmpty());
+        }
+    }
+
+}
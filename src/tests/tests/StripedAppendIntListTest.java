@@ -0,0 +1,258 @@
+package tests;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import interfaces.IntList;
+import lists.ArrayIntList;
+import lists.StripedAppendIntList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Class for StripedAppendIntList
+ * @author tobygoetz
+ * @version 1.0
+ */
+public class StripedAppendIntListTest {
+    //small chunks so the tests cross many chunk boundaries
+    private StripedAppendIntList list = new StripedAppendIntList(4);
+    private Exception exception;
+    public static final int ITERATIONS = 15;
+
+
+    protected Exception getException() {
+        return exception;
+    }
+
+    protected void setException(Exception exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Test adds values to the back from one thread and reads them
+     * back in order
+     */
+    @Test
+    public void addBackTest() {
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.stripeCount());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+            assertEquals(i + 1, list.size());
+            assertEquals(i, list.get(i));
+        }
+        assertEquals(1, list.stripeCount());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertEquals(i, list.get(i));
+        }
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1)));
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> list.get(ITERATIONS + 1)));
+        setException(assertThrows(IllegalArgumentException.class, () -> new StripedAppendIntList(0)));
+    }
+
+    /**
+     * Test addAll() fills chunks part way, across and past their ends
+     */
+    @Test
+    public void addAllTest() {
+        list.addBack(0);
+        list.addAll(new int[] {1, 2});
+        list.addAll(new int[0]);
+        int[] values = new int[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            values[i] = i + 3;
+        }
+        list.addAll(values);
+        list.addBack(ITERATIONS + 3);
+        assertEquals(ITERATIONS + 4, list.size());
+        int[] all = list.toArray();
+        for (int i = 0; i < all.length; i++) {
+            assertEquals(i, all[i]);
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    /**
+     * Test reading methods and that the other writes are refused
+     */
+    @Test
+    public void readTest() {
+        for (int i = 0; i < ITERATIONS * 3; i++) {
+            list.addBack(i % ITERATIONS);
+        }
+        assertTrue(list.contains(ITERATIONS - 1));
+        assertFalse(list.contains(ITERATIONS));
+        assertEquals(3, list.indexOf(3));
+        assertEquals(ITERATIONS * 2 + 3, list.lastIndexOf(3));
+        assertEquals(3, list.count(3));
+        assertEquals(-1, list.indexOf(-1));
+
+        PrimitiveIterator.OfInt itr = list.intIterator();
+        for (int i = 0; i < ITERATIONS * 3; i++) {
+            assertEquals(i % ITERATIONS, itr.nextInt());
+        }
+        assertFalse(itr.hasNext());
+        long expectedSum = 3L * ITERATIONS * (ITERATIONS - 1) / 2;
+        assertEquals(expectedSum, list.intStream().asLongStream().sum());
+        assertEquals(expectedSum, list.parallelIntStream().asLongStream().sum());
+
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.addFront(1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.add(0, 1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.removeFront()));
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.removeBack()));
+        setException(assertThrows(UnsupportedOperationException.class, () -> list.remove(0)));
+    }
+
+    /**
+     * Test snapshot() keeps the values it was taken with and is read-only
+     */
+    @Test
+    public void snapshotTest() {
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+        IntList snapshot = list.snapshot();
+        list.addBack(-1);
+        assertEquals(ITERATIONS + 1, snapshot.size());
+        assertEquals(ITERATIONS + 2, list.size());
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertEquals(i, snapshot.get(i));
+        }
+        assertEquals(-1, snapshot.indexOf(-1));
+        setException(assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(ITERATIONS + 1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> snapshot.addBack(1)));
+        setException(assertThrows(UnsupportedOperationException.class, () -> snapshot.clear()));
+    }
+
+    /**
+     * Test drainTo() and clear() take out what is there and leave the
+     * list ready for more appends
+     */
+    @Test
+    public void drainToTest() {
+        IntList target = new ArrayIntList();
+        assertEquals(0, list.drainTo(target));
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+        assertEquals(ITERATIONS + 1, list.drainTo(target));
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.drainTo(target));
+        for (int i = 0; i <= ITERATIONS; i++) {
+            assertEquals(i, target.get(i));
+        }
+
+        list.addBack(ITERATIONS + 1);
+        assertEquals(ITERATIONS + 1, list.get(0));
+        assertEquals(1, list.drainTo(target));
+        assertEquals(ITERATIONS + 2, target.size());
+
+        for (int i = 0; i <= ITERATIONS; i++) {
+            list.addBack(i);
+        }
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+        list.addBack(1);
+        assertArrayEquals(new int[] {1}, list.toArray());
+    }
+
+    /**
+     * Test the stripes of short-lived threads are dropped once they are
+     * drained or cleared, and that a live thread keeps its stripe
+     */
+    @Test
+    public void deadStripeTest() throws InterruptedException {
+        IntList target = new ArrayIntList();
+        list.addBack(-1);
+        for (int t = 0; t < ITERATIONS; t++) {
+            int value = t;
+            Thread thread = new Thread(() -> list.addAll(new int[] {value, value}));
+            thread.start();
+            thread.join();
+        }
+        assertEquals(ITERATIONS + 1, list.stripeCount());
+        //reading does not drop stripes that still hold values
+        assertEquals(ITERATIONS * 2 + 1, list.size());
+        assertEquals(ITERATIONS + 1, list.stripeCount());
+
+        assertEquals(ITERATIONS * 2 + 1, list.drainTo(target));
+        assertEquals(1, list.stripeCount());
+        assertEquals(-1, target.get(0));
+        for (int t = 0; t < ITERATIONS; t++) {
+            assertEquals(t, target.get(t * 2 + 1));
+            assertEquals(t, target.get(t * 2 + 2));
+        }
+
+        Thread thread = new Thread(() -> list.addBack(ITERATIONS));
+        thread.start();
+        thread.join();
+        assertEquals(2, list.stripeCount());
+        list.clear();
+        assertEquals(1, list.stripeCount());
+        list.addBack(ITERATIONS);
+        assertArrayEquals(new int[] {ITERATIONS}, list.toArray());
+    }
+
+    /**
+     * Test threads appending at once while another drains lose and
+     * duplicate nothing, and keep each thread's values in order
+     */
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        StripedAppendIntList shared = new StripedAppendIntList(64);
+        int writers = 4;
+        int perWriter = ITERATIONS * 2000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        IntList drained = new ArrayIntList();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    //values carry their writer in the low bits
+                    if (i % 100 == 0) {
+                        shared.addAll(new int[] {i * writers + writer});
+                    } else {
+                        shared.addBack(i * writers + writer);
+                    }
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                shared.drainTo(drained);
+                shared.size();
+            }
+        });
+        reader.start();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        running.set(false);
+        reader.join();
+        shared.drainTo(drained);
+
+        //the writers have died and their stripes are drained
+        assertEquals(0, shared.stripeCount());
+        assertEquals(writers * perWriter, drained.size());
+        //each writer's values must come out as writer, writer + writers, ...
+        int[] expected = new int[writers];
+        for (int w = 0; w < writers; w++) {
+            expected[w] = w;
+        }
+        PrimitiveIterator.OfInt itr = drained.intIterator();
+        while (itr.hasNext()) {
+            int value = itr.nextInt();
+            int writer = value % writers;
+            assertEquals(expected[writer], value);
+            expected[writer] += writers;
+        }
+    }
+
+}
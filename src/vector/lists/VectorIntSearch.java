@@ -0,0 +1,61 @@
+package lists;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Searches an int[] range one vector of values at a time with the
+ * Vector API. Only loaded by IntSearch when jdk.incubator.vector is
+ * resolved; the leftover values at the ends use the scalar loops.
+ *
+ * @author tobygoetz
+ * @version 1.0
+ */
+final class VectorIntSearch implements IntSearch.Searcher {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private final IntSearch.Searcher scalar = new IntSearch.ScalarSearcher();
+
+    @Override
+    public int indexOf(int[] values, int from, int to, int value) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(SPECIES, values, i)
+                    .compare(VectorOperators.EQ, value);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        return scalar.indexOf(values, i, to, value);
+    }
+
+    @Override
+    public int lastIndexOf(int[] values, int from, int to, int value) {
+        int i = to - SPECIES.length();
+        for (; i >= from; i -= SPECIES.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(SPECIES, values, i)
+                    .compare(VectorOperators.EQ, value);
+            if (matches.anyTrue()) {
+                return i + matches.lastTrue();
+            }
+        }
+        // values[from, i + length) have not been checked yet
+        return scalar.lastIndexOf(values, from, i + SPECIES.length(), value);
+    }
+
+    @Override
+    public int count(int[] values, int from, int to, int value) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        int count = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, values, i)
+                    .compare(VectorOperators.EQ, value).trueCount();
+        }
+        return count + scalar.count(values, i, to, value);
+    }
+}